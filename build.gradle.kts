@@ -4,6 +4,7 @@ plugins {
     jacoco
     signing
     id("com.github.ben-manes.versions") version "0.39.0"
+    id("me.champeau.jmh") version "0.6.6"
 }
 
 group = "me.hltj"
@@ -54,6 +55,11 @@ tasks.test {
     finalizedBy(tasks.jacocoTestReport)
 }
 
+jmh {
+    jmhVersion.set("1.33")
+    profilers.add("gc")
+}
+
 jacoco {
     toolVersion = "0.8.7"
 }
@@ -0,0 +1,103 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fused {@link FutureUtils#fallbackWith(Future, Object)} and its variants with the chains of
+ * {@code otherwise()}/{@code recover()} and {@code map()}/{@code flatMap()} they replace, on a pending {@link Future}
+ * completed afterwards. Run with {@code ./gradlew jmh}, the {@code gc} profiler reports the allocation per operation,
+ * subtract {@link #promiseOnly()} for the cost of the stage itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FallbackBenchmark {
+
+    @Benchmark
+    public Future<String> promiseOnly() {
+        Promise<String> promise = Promise.promise();
+        promise.complete("value");
+        return promise.future();
+    }
+
+    @Benchmark
+    public Future<String> fallbackWithValue() {
+        Promise<String> promise = Promise.promise();
+        Future<String> future = FutureUtils.fallbackWith(promise.future(), "default");
+        promise.complete("value");
+        return future;
+    }
+
+    @Benchmark
+    public Future<String> chainedWithValue() {
+        Promise<String> promise = Promise.promise();
+        Future<String> future = promise.future().otherwise("default").map(v -> v == null ? "default" : v);
+        promise.complete("value");
+        return future;
+    }
+
+    @Benchmark
+    public Future<String> fallbackWithMapper() {
+        Promise<String> promise = Promise.promise();
+        Future<String> future = FutureUtils.fallbackWith(promise.future(), Throwable::getMessage, () -> "default");
+        promise.complete("value");
+        return future;
+    }
+
+    @Benchmark
+    public Future<String> chainedWithMapper() {
+        Promise<String> promise = Promise.promise();
+        Future<String> future = promise.future().otherwise(Throwable::getMessage)
+                .map(v -> v == null ? "default" : v);
+        promise.complete("value");
+        return future;
+    }
+
+    @Benchmark
+    public Future<String> flatFallbackWith() {
+        Promise<String> promise = Promise.promise();
+        Future<String> future = FutureUtils.flatFallbackWith(
+                promise.future(), t -> Future.succeededFuture(t.getMessage()), () -> Future.succeededFuture("default")
+        );
+        promise.complete("value");
+        return future;
+    }
+
+    @Benchmark
+    public Future<String> chainedFlat() {
+        Promise<String> promise = Promise.promise();
+        Future<String> future = promise.future().recover(t -> Future.succeededFuture(t.getMessage()))
+                .flatMap(v -> v == null ? Future.succeededFuture("default") : Future.succeededFuture(v));
+        promise.complete("value");
+        return future;
+    }
+}
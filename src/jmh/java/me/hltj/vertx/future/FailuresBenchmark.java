@@ -0,0 +1,78 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import me.hltj.vertx.FutureUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of the library-generated failures in each {@link Failures.Mode}, with {@code nonEmpty()} on an
+ * empty value called {@code depth} frames deep, since filling in the stack trace grows with the depth. Run with
+ * {@code ./gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailuresBenchmark {
+    private static final Future<String> EMPTY = Future.succeededFuture();
+
+    @Param({"DEFAULT", "SHARED", "STACKLESS", "FULL_TRACE"})
+    public String mode;
+
+    @Param({"1", "20"})
+    public int depth;
+
+    @Setup
+    public void setUp() {
+        Failures.setMode(Failures.Mode.valueOf(mode));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Failures.setMode(Failures.Mode.DEFAULT);
+    }
+
+    @Benchmark
+    public Future<String> nonEmpty() {
+        return nonEmpty(depth);
+    }
+
+    @Benchmark
+    public Exception timeout() {
+        return timeout(depth);
+    }
+
+    private static Future<String> nonEmpty(int depth) {
+        return depth <= 1 ? FutureUtils.nonEmpty(EMPTY) : nonEmpty(depth - 1);
+    }
+
+    private static Exception timeout(int depth) {
+        return depth <= 1 ? Failures.timeout(10) : timeout(depth - 1);
+    }
+}
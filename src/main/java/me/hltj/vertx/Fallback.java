@@ -0,0 +1,192 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import me.hltj.vertx.future.ConstantFutures;
+import me.hltj.vertx.future.Deadline;
+import me.hltj.vertx.future.Failures;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A single fused stage of {@link FutureUtils#fallbackWith(Future, Object)} and its variants.
+ * <p>
+ * The stage is the only handler registered on the original {@link Future} and completes one promise for both the
+ * failure and the {@code null} cases, instead of chaining {@code otherwise()} with {@code map()} or {@code flatMap()},
+ * each of which allocates a future and a handler. An already completed {@code Future} is handled synchronously without
+ * any stage, and returned as is if it needs no fallback.
+ */
+abstract class Fallback<T> implements Handler<AsyncResult<T>> {
+    final Promise<T> promise = Promise.promise();
+
+    static <T> Future<T> of(Future<T> future, T v0) {
+        if (future.isComplete()) {
+            return future.succeeded() && future.result() != null ? future : ConstantFutures.succeeded(v0);
+        }
+        return new Value<>(v0).start(future);
+    }
+
+    static <T> Future<T> of(Future<T> future, Function<Throwable, T> mapper, Supplier<T> supplier) {
+        if (future.isComplete()) {
+            if (future.succeeded() && future.result() != null) {
+                return future;
+            }
+            return FutureUtils.wrap(() -> {
+                T value = future.failed() ? mapper.apply(future.cause()) : null;
+                return value == null ? supplier.get() : value;
+            });
+        }
+        return new Mapper<>(mapper, supplier).start(future);
+    }
+
+    static <T> Future<T> flat(Future<T> future, Function<Throwable, Future<T>> mapper, Supplier<Future<T>> supplier) {
+        if (future.isComplete()) {
+            if (future.succeeded() && future.result() != null) {
+                return future;
+            }
+            Future<T> recovered = future.succeeded() ? future
+                    : FutureUtils.joinWrap(() -> Deadline.check(() -> mapper.apply(future.cause())));
+            return FutureUtils.flatDefaultWith(nonNull(recovered), () -> nonNull(Deadline.check(supplier)));
+        }
+        return new FlatMapper<>(mapper, supplier).start(future);
+    }
+
+    // a null Future from the mapper or the supplier fails the same way whether the original one is completed or not
+    private static <T> Future<T> nonNull(Future<T> future) {
+        return future == null ? Failures.failedEmptyValue() : future;
+    }
+
+    @Override
+    public void handle(AsyncResult<T> ar) {
+        if (ar.succeeded()) {
+            onSuccess(ar.result());
+        } else {
+            onFailure(ar.cause());
+        }
+    }
+
+    abstract void onSuccess(T value);
+
+    abstract void onFailure(Throwable failure);
+
+    Future<T> start(Future<T> future) {
+        future.onComplete(this);
+        return promise.future();
+    }
+
+    private static final class Value<T> extends Fallback<T> {
+        private final T v0;
+
+        private Value(T v0) {
+            this.v0 = v0;
+        }
+
+        @Override
+        void onSuccess(T value) {
+            promise.complete(value == null ? v0 : value);
+        }
+
+        @Override
+        void onFailure(Throwable failure) {
+            promise.complete(v0);
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    private static final class Mapper<T> extends Fallback<T> {
+        private final Function<Throwable, T> mapper;
+        private final Supplier<T> supplier;
+
+        private Mapper(Function<Throwable, T> mapper, Supplier<T> supplier) {
+            this.mapper = mapper;
+            this.supplier = supplier;
+        }
+
+        @Override
+        void onSuccess(T value) {
+            try {
+                promise.complete(value == null ? supplier.get() : value);
+            } catch (Throwable e) {
+                promise.fail(e);
+            }
+        }
+
+        @Override
+        void onFailure(Throwable failure) {
+            T value;
+            try {
+                value = mapper.apply(failure);
+            } catch (Throwable e) {
+                promise.fail(e);
+                return;
+            }
+            onSuccess(value);
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    private static final class FlatMapper<T> extends Fallback<T> {
+        private final Function<Throwable, Future<T>> mapper;
+        private final Supplier<Future<T>> supplier;
+        private boolean recovered;
+
+        private FlatMapper(Function<Throwable, Future<T>> mapper, Supplier<Future<T>> supplier) {
+            this.mapper = mapper;
+            this.supplier = supplier;
+        }
+
+        @Override
+        void onSuccess(T value) {
+            if (value != null) {
+                promise.complete(value);
+                return;
+            }
+
+            try {
+                nonNull(Deadline.check(supplier)).onComplete(promise);
+            } catch (Throwable e) {
+                promise.fail(e);
+            }
+        }
+
+        @Override
+        void onFailure(Throwable failure) {
+            if (recovered) {
+                promise.fail(failure);
+                return;
+            }
+
+            recovered = true;
+            try {
+                nonNull(Deadline.check(() -> mapper.apply(failure))).onComplete(this);
+            } catch (Throwable e) {
+                promise.fail(e);
+            }
+        }
+    }
+}
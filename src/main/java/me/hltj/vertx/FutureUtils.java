@@ -23,13 +23,25 @@
 package me.hltj.vertx;
 
 import io.vertx.core.*;
+import io.vertx.core.streams.ReadStream;
+import me.hltj.vertx.concurrent.CircuitBreaker;
+import me.hltj.vertx.concurrent.CircuitBreakerOpenException;
+import me.hltj.vertx.concurrent.HedgePolicy;
+import me.hltj.vertx.concurrent.LoadShedder;
+import me.hltj.vertx.concurrent.RateLimiter;
+import me.hltj.vertx.concurrent.RejectedException;
+import me.hltj.vertx.concurrent.RetryPolicy;
 import me.hltj.vertx.future.*;
 
-import java.util.List;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 /**
  * Convenient Utilities for Vert.x {@link Future}.
@@ -40,6 +52,7 @@ import java.util.function.Supplier;
  */
 @SuppressWarnings("java:S107")
 public final class FutureUtils {
+    private static final Object QUORUM_PENDING = new Object();
 
     private FutureUtils() {
     }
@@ -57,6 +70,23 @@ public final class FutureUtils {
         return promise.future();
     }
 
+    /**
+     * Convert a callback style Vert.x call to {@link Future} result style, and make the call once the rate limiter
+     * permits.
+     * <p>
+     * See {@link RateLimiter#futurize(Consumer)} for the details, use {@link RateLimiter#tryFuturize(Consumer)}
+     * to fail fast instead of waiting.
+     *
+     * @param consumer callback style Vert.x call
+     * @param limiter  the rate limiter
+     * @param <T>      the type parameter of the {@code AsyncResult}
+     * @return the {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> futurize(Consumer<Handler<AsyncResult<T>>> consumer, RateLimiter limiter) {
+        return limiter.futurize(consumer);
+    }
+
     /**
      * If a {@link Future} succeed with null, map it with the default value.
      *
@@ -66,6 +96,9 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> defaultWith(Future<T> future, T v0) {
+        if (future.isComplete()) {
+            return future.failed() || future.result() != null ? future : ConstantFutures.succeeded(v0);
+        }
         return future.map(x -> x == null ? v0 : x);
     }
 
@@ -78,6 +111,9 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> defaultWith(Future<T> future, Supplier<T> supplier) {
+        if (future.isComplete()) {
+            return future.failed() || future.result() != null ? future : wrap(supplier);
+        }
         return future.map(x -> x == null ? supplier.get() : x);
     }
 
@@ -91,7 +127,10 @@ public final class FutureUtils {
      * @since 1.1.0
      */
     public static <T> Future<T> flatDefaultWith(Future<T> future, Supplier<Future<T>> supplier) {
-        return future.flatMap(x -> x == null ? supplier.get() : Future.succeededFuture(x));
+        if (future.isComplete()) {
+            return future.failed() || future.result() != null ? future : joinWrap(supplier);
+        }
+        return future.flatMap(x -> x == null ? supplier.get() : ConstantFutures.succeeded(x));
     }
 
     /**
@@ -104,7 +143,7 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> fallbackWith(Future<T> future, T v0) {
-        return defaultWith(future.otherwise(v0), v0);
+        return Fallback.of(future, v0);
     }
 
     /**
@@ -131,7 +170,7 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> fallbackWith(Future<T> future, Function<Throwable, T> mapper, Supplier<T> supplier) {
-        return defaultWith(future.otherwise(mapper), supplier);
+        return Fallback.of(future, mapper, supplier);
     }
 
     /**
@@ -149,6 +188,9 @@ public final class FutureUtils {
 
     /**
      * If a {@link Future} failed or succeed with null, replace it with a default {@link Future}.
+     * <p>
+     * Neither {@code mapper} nor {@code supplier} will be called if the {@link Deadline} of the current Vert.x context
+     * is exceeded, the returned {@code Future} will be failed with a {@link DeadlineExceededException} instead.
      *
      * @param future   the {@code Future}
      * @param mapper   a function to get the default {@code Future} on failure
@@ -160,11 +202,136 @@ public final class FutureUtils {
     public static <T> Future<T> flatFallbackWith(
             Future<T> future, Function<Throwable, Future<T>> mapper, Supplier<Future<T>> supplier
     ) {
-        return flatDefaultWith(future.recover(mapper), supplier);
+        return Fallback.flat(future, mapper, supplier);
+    }
+
+    /**
+     * Make a call guarded by a {@link CircuitBreaker}, if it failed or succeed with null, replace it with
+     * a {@link Future} that succeed with the default value.
+     * <p>
+     * While the {@code breaker} is open, the {@code operation} is not called at all and the default value is used
+     * immediately. See {@link CircuitBreaker#execute(Supplier)} for details.
+     *
+     * @param operation the supplier to make the call
+     * @param breaker   the circuit breaker
+     * @param v0        the default value
+     * @param <T>       the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> fallbackWith(Supplier<Future<T>> operation, CircuitBreaker breaker, T v0) {
+        return fallbackWith(breaker.execute(operation), v0);
+    }
+
+    /**
+     * Make a call guarded by a {@link CircuitBreaker}, if it failed or succeed with null, replace it with
+     * a {@link Future} that succeed with the default value.
+     * <p>
+     * While the {@code breaker} is open, the {@code operation} is not called at all and the {@code mapper} is applied
+     * to a {@link CircuitBreakerOpenException} immediately. See {@link CircuitBreaker#execute(Supplier)} for details.
+     *
+     * @param operation the supplier to make the call
+     * @param breaker   the circuit breaker
+     * @param mapper    a function to get the default value on failure
+     * @param supplier  a function to get the default value for replacing null
+     * @param <T>       the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> fallbackWith(
+            Supplier<Future<T>> operation, CircuitBreaker breaker, Function<Throwable, T> mapper, Supplier<T> supplier
+    ) {
+        return fallbackWith(breaker.execute(operation), mapper, supplier);
+    }
+
+    /**
+     * Make a call guarded by a {@link CircuitBreaker}, if it failed or succeed with null, replace it with a default
+     * {@link Future}.
+     * <p>
+     * While the {@code breaker} is open, the {@code operation} is not called at all and the {@code mapper} is applied
+     * to a {@link CircuitBreakerOpenException} immediately. See {@link CircuitBreaker#execute(Supplier)} for details.
+     *
+     * @param operation the supplier to make the call
+     * @param breaker   the circuit breaker
+     * @param mapper    a function to get the default {@code Future} on failure
+     * @param supplier  a function to get the default {@code Future} on success with null
+     * @param <T>       the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> flatFallbackWith(
+            Supplier<Future<T>> operation, CircuitBreaker breaker, Function<Throwable, Future<T>> mapper,
+            Supplier<Future<T>> supplier
+    ) {
+        return flatFallbackWith(breaker.execute(operation), mapper, supplier);
+    }
+
+    /**
+     * Make a call admitted by a {@link LoadShedder}, if it failed or succeed with null, replace it with
+     * a {@link Future} that succeed with the default value.
+     * <p>
+     * While the load is shed, the {@code operation} is not called at all and the default value is used immediately.
+     * See {@link LoadShedder#execute(Supplier)} for details.
+     *
+     * @param operation the supplier to make the call
+     * @param shedder   the load shedder
+     * @param v0        the default value
+     * @param <T>       the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> fallbackWith(Supplier<Future<T>> operation, LoadShedder shedder, T v0) {
+        return fallbackWith(shedder.execute(operation), v0);
+    }
+
+    /**
+     * Make a call admitted by a {@link LoadShedder}, if it failed or succeed with null, replace it with
+     * a {@link Future} that succeed with the default value.
+     * <p>
+     * While the load is shed, the {@code operation} is not called at all and the {@code mapper} is applied to
+     * a {@link RejectedException} immediately. See {@link LoadShedder#execute(Supplier)} for details.
+     *
+     * @param operation the supplier to make the call
+     * @param shedder   the load shedder
+     * @param mapper    a function to get the default value on failure
+     * @param supplier  a function to get the default value for replacing null
+     * @param <T>       the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> fallbackWith(
+            Supplier<Future<T>> operation, LoadShedder shedder, Function<Throwable, T> mapper, Supplier<T> supplier
+    ) {
+        return fallbackWith(shedder.execute(operation), mapper, supplier);
+    }
+
+    /**
+     * Make a call admitted by a {@link LoadShedder}, if it failed or succeed with null, replace it with a default
+     * {@link Future}.
+     * <p>
+     * While the load is shed, the {@code operation} is not called at all and the {@code mapper} is applied to
+     * a {@link RejectedException} immediately. See {@link LoadShedder#execute(Supplier)} for details.
+     *
+     * @param operation the supplier to make the call
+     * @param shedder   the load shedder
+     * @param mapper    a function to get the default {@code Future} on failure
+     * @param supplier  a function to get the default {@code Future} on success with null
+     * @param <T>       the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> flatFallbackWith(
+            Supplier<Future<T>> operation, LoadShedder shedder, Function<Throwable, Future<T>> mapper,
+            Supplier<Future<T>> supplier
+    ) {
+        return flatFallbackWith(shedder.execute(operation), mapper, supplier);
     }
 
     /**
      * If a {@link Future} succeed with null, replace it with a {@link Future} failed with NullPointerException.
+     * <p>
+     * The NullPointerException is created by {@link Failures#emptyValue()}, which has no message and, by default,
+     * a full stack trace as before.
      *
      * @param future the {@code Future}
      * @param <T>    the type parameter of the {@code Future}
@@ -172,7 +339,7 @@ public final class FutureUtils {
      * @since 1.1.0
      */
     public static <T> Future<T> nonEmpty(Future<T> future) {
-        return flatDefaultWith(future, () -> Future.failedFuture(new NullPointerException()));
+        return flatDefaultWith(future, Failures::failedEmptyValue);
     }
 
     /**
@@ -189,7 +356,12 @@ public final class FutureUtils {
      * @return the result {@code Future}
      * @since 1.1.0
      */
+    @SuppressWarnings("unchecked")
     public static <T, R> Future<R> mapSome(Future<T> future, Function<T, R> mapper) {
+        if (future.isComplete()) {
+            // a failed or empty Future carries no value of T, so it can be reused as a Future<R>
+            return future.failed() || future.result() == null ? (Future<R>) future : wrap(future.result(), mapper);
+        }
         return future.map(v -> v == null ? null : mapper.apply(v));
     }
 
@@ -199,6 +371,9 @@ public final class FutureUtils {
      * When the {@code Future} succeeds with non-null value, the {@code mapper} will be called with the completed value,
      * and the result will be the returned {@code Future}. otherwise, the succeeded null value or the failure will be
      * propagated to the returned {@code Future} and the {@code mapper} will not be called.
+     * <p>
+     * The {@code mapper} will not be called either if the {@link Deadline} of the current Vert.x context is exceeded,
+     * the returned {@code Future} will be failed with a {@link DeadlineExceededException} instead.
      *
      * @param future the {@code Future}
      * @param mapper the mapper function
@@ -207,8 +382,96 @@ public final class FutureUtils {
      * @return the result {@code Future}
      * @since 1.1.0
      */
+    @SuppressWarnings("unchecked")
     public static <T, R> Future<R> flatMapSome(Future<T> future, Function<T, Future<R>> mapper) {
-        return future.flatMap(v -> v == null ? Future.succeededFuture() : mapper.apply(v));
+        if (future.isComplete()) {
+            T v = future.result();
+            if (future.failed() || v == null) {
+                return (Future<R>) future;
+            }
+            return joinWrap(() -> Deadline.check(() -> mapper.apply(v)));
+        }
+        return future.flatMap(v -> v == null ? ConstantFutures.empty() : Deadline.check(() -> mapper.apply(v)));
+    }
+
+    /**
+     * Call a {@code supplier} that returns {@link Future}, and retry it on failure as the {@code policy} allows.
+     * <p>
+     * The {@code supplier} is called as {@link #joinWrap(Supplier)} does, so a non-checked exception it throws is
+     * retried as a failure. See {@link RetryPolicy} for the backoff, the jitter, the failure predicate and the retry
+     * budget. As {@link #timeout(Future, Duration)} does, it returns a {@code Future} failed with
+     * {@link IllegalStateException} if the retries are delayed and it is not called on a Vert.x context.
+     *
+     * @param supplier the supplier to start an attempt
+     * @param policy   the retry policy
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> retry(Supplier<Future<T>> supplier, RetryPolicy policy) {
+        return policy.execute(supplier);
+    }
+
+    /**
+     * Call a {@code supplier} that returns {@link Future}, and call it again if the first attempt is slower than
+     * a latency percentile, the first succeeded attempt wins.
+     * <p>
+     * The {@code supplier} is called as {@link #joinWrap(Supplier)} does. See {@link HedgePolicy} for the hedge delay
+     * and the limit of the hedges. As {@link #timeout(Future, Duration)} does, it returns a {@code Future} failed with
+     * {@link IllegalStateException} if it is not called on a Vert.x context.
+     *
+     * @param supplier the supplier to start an attempt
+     * @param policy   the hedge policy
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> hedge(Supplier<Future<T>> supplier, HedgePolicy policy) {
+        return policy.execute(supplier);
+    }
+
+    /**
+     * Fail a {@link Future} with a {@link TimeoutException} if it does not complete within the {@code timeout}.
+     * <p>
+     * The returned {@code Future} completes as the original one does if it completes in time. The timeouts of a Vert.x
+     * context share a hashed timing wheel driven by a single periodic timer, so creating and cancelling a timeout costs
+     * O(1) without registering a timer per {@code Future}. The timeout is cancelled as soon as the original
+     * {@code Future} completes, and it may fire up to 10 milliseconds (a tick of the wheel) late.
+     * <p>
+     * The original {@code Future} is returned directly if it is already completed. The {@code TimeoutException} is
+     * created by {@link Failures#timeout(long)}. If the {@code future} is not completed and it is not called on a
+     * Vert.x context, there is no timer to drive the timeout and a {@code Future} failed with
+     * {@link IllegalStateException} is returned.
+     *
+     * @param future  the original {@code Future}
+     * @param timeout the timeout
+     * @param <T>     the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> timeout(Future<T> future, Duration timeout) {
+        if (future.isComplete()) {
+            return future;
+        }
+
+        TimingWheel wheel = TimingWheel.current();
+        if (wheel == null) {
+            return Future.failedFuture(new IllegalStateException("timeouts must be created on a Vert.x context"));
+        }
+
+        Promise<T> promise = Promise.promise();
+        TimingWheel.Timeout scheduled = wheel.schedule(timeout.toNanos(), () ->
+                promise.tryFail(Failures.timeout(timeout.toMillis()))
+        );
+        future.onComplete(ar -> {
+            scheduled.cancel();
+            if (ar.succeeded()) {
+                promise.tryComplete(ar.result());
+            } else {
+                promise.tryFail(ar.cause());
+            }
+        });
+        return promise.future();
     }
 
     /**
@@ -221,7 +484,7 @@ public final class FutureUtils {
     @SuppressWarnings("java:S1181")
     public static <R> Future<R> wrap(Supplier<R> supplier) {
         try {
-            return Future.succeededFuture(supplier.get());
+            return ConstantFutures.succeeded(supplier.get());
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
@@ -438,6 +701,167 @@ public final class FutureUtils {
         return FutureTuple9.of(future0, future1, future2, future3, future4, future5, future6, future7, future8).all();
     }
 
+    /**
+     * Create a composite future tuple with two {@link Future}s produced by the functions and
+     * {@link CompositeFuture#all(Future, Future)}, the first failure cancels the {@link CancellationToken}
+     * passed to the functions.
+     * <p>
+     * Each function is applied as {@link #joinWrap(Object, Function)} does, see
+     * {@link FutureTuple2#all(CancellationToken)} for details.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1> CompositeFutureTuple2<T0, T1> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple2.of(joinWrap(token, function0), joinWrap(token, function1)).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 3 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 3-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2> CompositeFutureTuple3<T0, T1, T2> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple3.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2)
+        ).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 4 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 4-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2, T3> CompositeFutureTuple4<T0, T1, T2, T3> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2, Function<CancellationToken, Future<T3>> function3
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple4.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2),
+                joinWrap(token, function3)
+        ).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 5 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 5-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2, T3, T4> CompositeFutureTuple5<T0, T1, T2, T3, T4> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2, Function<CancellationToken, Future<T3>> function3,
+            Function<CancellationToken, Future<T4>> function4
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple5.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2),
+                joinWrap(token, function3), joinWrap(token, function4)
+        ).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 6 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 6-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2, T3, T4, T5> CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2, Function<CancellationToken, Future<T3>> function3,
+            Function<CancellationToken, Future<T4>> function4, Function<CancellationToken, Future<T5>> function5
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple6.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2),
+                joinWrap(token, function3), joinWrap(token, function4), joinWrap(token, function5)
+        ).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 7 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 7-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2, T3, T4, T5, T6> CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2, Function<CancellationToken, Future<T3>> function3,
+            Function<CancellationToken, Future<T4>> function4, Function<CancellationToken, Future<T5>> function5,
+            Function<CancellationToken, Future<T6>> function6
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple7.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2),
+                joinWrap(token, function3), joinWrap(token, function4), joinWrap(token, function5),
+                joinWrap(token, function6)
+        ).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 8 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 8-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2, T3, T4, T5, T6, T7> CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2, Function<CancellationToken, Future<T3>> function3,
+            Function<CancellationToken, Future<T4>> function4, Function<CancellationToken, Future<T5>> function5,
+            Function<CancellationToken, Future<T6>> function6, Function<CancellationToken, Future<T7>> function7
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple8.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2),
+                joinWrap(token, function3), joinWrap(token, function4), joinWrap(token, function5),
+                joinWrap(token, function6), joinWrap(token, function7)
+        ).all(token);
+    }
+
+    /**
+     * Create a composite future tuple with 9 {@link Future}s produced by the functions, the first failure
+     * cancels the {@link CancellationToken} passed to the functions.
+     * <p>
+     * It likes {@link #all(Function, Function)} but with 9-arity.
+     *
+     * @since 1.2.0
+     */
+    public static <T0, T1, T2, T3, T4, T5, T6, T7, T8> CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> all(
+            Function<CancellationToken, Future<T0>> function0, Function<CancellationToken, Future<T1>> function1,
+            Function<CancellationToken, Future<T2>> function2, Function<CancellationToken, Future<T3>> function3,
+            Function<CancellationToken, Future<T4>> function4, Function<CancellationToken, Future<T5>> function5,
+            Function<CancellationToken, Future<T6>> function6, Function<CancellationToken, Future<T7>> function7,
+            Function<CancellationToken, Future<T8>> function8
+    ) {
+        CancellationToken token = CancellationToken.create();
+        return FutureTuple9.of(
+                joinWrap(token, function0), joinWrap(token, function1), joinWrap(token, function2),
+                joinWrap(token, function3), joinWrap(token, function4), joinWrap(token, function5),
+                joinWrap(token, function6), joinWrap(token, function7), joinWrap(token, function8)
+        ).all(token);
+    }
+
     /**
      * Create a composite future tuple with two {@link Future}s {@link CompositeFuture#any(Future, Future)}.
      */
@@ -591,4 +1015,416 @@ public final class FutureUtils {
     ) {
         return FutureTuple9.of(future0, future1, future2, future3, future4, future5, future6, future7, future8).join();
     }
+
+    /**
+     * Composite a list of {@link Future}s with the same type into a {@code Future} of their results.
+     * <p>
+     * It behaves as {@link CompositeFuture#all(List)}, but the returned {@code Future} keeps the type parameter and
+     * succeeds with the results in the order of the {@code futures}. The results are written directly into a presized
+     * array, so no unchecked {@code resultAt(i)} is needed.
+     * <p>
+     * When any of the {@code futures} fails, the returned {@code Future} fails with the same cause immediately.
+     *
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<List<T>> allOf(List<Future<T>> futures) {
+        return collect(futures, true);
+    }
+
+    /**
+     * Composite the {@link Future}s produced by a list of functions into a {@code Future} of their results as
+     * {@link #allOf(List)} does, and cancel the {@code token} with the cause once the returned {@code Future} fails.
+     * <p>
+     * Each function is applied to the {@code token} as {@link #joinWrap(Object, Function)} does, so the first failure
+     * aborts the sibling operations whose results will never be read.
+     *
+     * @param functions the functions to produce the {@code Future}s
+     * @param token     the token passed to the {@code functions}
+     * @param <T>       the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<List<T>> allOf(
+            List<Function<CancellationToken, Future<T>>> functions, CancellationToken token
+    ) {
+        List<Future<T>> futures = new ArrayList<>(functions.size());
+        for (Function<CancellationToken, Future<T>> function : functions) {
+            futures.add(joinWrap(token, function));
+        }
+        return allOf(futures).onFailure(token::cancel);
+    }
+
+    /**
+     * Composite a list of {@link Future}s with the same type into a {@code Future} of the first succeeded result.
+     * <p>
+     * It behaves as {@link CompositeFuture#any(List)}, but the returned {@code Future} keeps the type parameter and
+     * succeeds with the result of the first succeeded {@code Future}. When all of the {@code futures} fail,
+     * the returned {@code Future} fails with the cause of the last failed one.
+     *
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<T> anyOf(List<Future<T>> futures) {
+        int size = futures.size();
+        if (size == 0) {
+            return Future.succeededFuture();
+        }
+
+        Promise<T> promise = Promise.promise();
+        AtomicInteger remaining = new AtomicInteger(size);
+        for (Future<T> future : futures) {
+            future.onComplete(ar -> {
+                if (ar.succeeded()) {
+                    promise.tryComplete(ar.result());
+                } else if (remaining.decrementAndGet() == 0) {
+                    promise.tryFail(ar.cause());
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    /**
+     * Composite a list of {@link Future}s with the same type into a {@code Future} of their results.
+     * <p>
+     * It behaves as {@link CompositeFuture#join(List)}, but the returned {@code Future} keeps the type parameter and
+     * succeeds with the results in the order of the {@code futures}.
+     * <p>
+     * The returned {@code Future} waits until all of the {@code futures} complete, if any of them failed, it fails
+     * with the cause of the first failed one in the order of the {@code futures}.
+     *
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @since 1.2.0
+     */
+    public static <T> Future<List<T>> joinOf(List<Future<T>> futures) {
+        return collect(futures, false);
+    }
+
+    /**
+     * Composite a list of {@link Future}s with the same type into a {@code Future} of the first {@code n} succeeded
+     * results.
+     * <p>
+     * It generalizes {@link #anyOf(List)} ({@code n == 1}) and {@link #allOf(List)} ({@code n == futures.size()}).
+     * The returned {@code Future} succeeds as soon as {@code n} of the {@code futures} succeed, with their results in
+     * the order of the {@code futures}. It fails as soon as too many of the {@code futures} failed for {@code n}
+     * successes to be possible, with the cause of the failure that makes it impossible.
+     * <p>
+     * The progress is tracked with a single atomic counter, the results are only collected once on success.
+     *
+     * @param n       the number of the successes required
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code n} is negative or greater than the size of {@code futures}
+     * @since 1.2.0
+     */
+    public static <T> Future<List<T>> quorum(int n, List<Future<T>> futures) {
+        int size = futures.size();
+        if (n < 0 || n > size) {
+            throw new IllegalArgumentException("n must be between 0 and " + size + ": " + n);
+        } else if (n == 0) {
+            return ConstantFutures.emptyList();
+        }
+
+        Object[] results = new Object[size];
+        Arrays.fill(results, QUORUM_PENDING);
+        // the successes in the high 32 bits and the failures in the low 32 bits
+        AtomicLong counter = new AtomicLong();
+        Promise<List<T>> promise = Promise.promise();
+        int i = 0;
+        for (Future<T> future : futures) {
+            int index = i++;
+            future.onComplete(ar -> {
+                if (ar.succeeded()) {
+                    results[index] = ar.result();
+                    if ((counter.addAndGet(1L << 32) >>> 32) == n) {
+                        promise.tryComplete(quorumResults(results, n));
+                    }
+                } else if ((int) counter.incrementAndGet() == size - n + 1) {
+                    promise.tryFail(ar.cause());
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    /**
+     * Settle a list of {@link Future}s with the same type to a {@code Future} of their {@link Outcome}s once all of
+     * them complete.
+     * <p>
+     * The returned {@code Future} never fails, the outcomes are in the order of the {@code futures} and each one holds
+     * either the result or the failure cause, so no exception is created to carry the partial results.
+     *
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the {@code Future} of the outcomes
+     * @since 1.2.0
+     */
+    public static <T> Future<List<Outcome<T>>> allSettled(List<Future<T>> futures) {
+        int size = futures.size();
+        if (size == 0) {
+            return ConstantFutures.emptyList();
+        }
+
+        Outcome<T>[] outcomes = newOutcomes(size);
+        AtomicInteger remaining = new AtomicInteger(size);
+        Promise<List<Outcome<T>>> promise = Promise.promise();
+        int i = 0;
+        for (Future<T> future : futures) {
+            int index = i++;
+            future.onComplete(ar -> {
+                outcomes[index] = Outcome.of(ar);
+                if (remaining.decrementAndGet() == 0) {
+                    promise.complete(Arrays.asList(outcomes));
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    /**
+     * Apply a {@code function} that returns {@link Future} to each element of an {@link Iterable}, with at most
+     * {@code maxInFlight} returned {@code Future}s uncompleted at the same time.
+     * <p>
+     * The elements are pulled lazily from the {@code iterable}, so a large input never starts all the asynchronous
+     * operations at once. The results are collected in the order of the elements. The {@code function} is applied
+     * as {@link #joinWrap(Object, Function)} does, so a non-checked exception it throws fails the returned
+     * {@code Future} too.
+     * <p>
+     * When any of the {@code Future}s fails, the returned {@code Future} fails with the same cause immediately and no
+     * more elements will be pulled.
+     *
+     * @param iterable    the elements
+     * @param function    the function applied to each element
+     * @param maxInFlight the maximum number of uncompleted {@code Future}s at the same time
+     * @param <T>         the type of the elements
+     * @param <R>         the type parameter of the {@code Future}s that the {@code function} returns
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+     * @since 1.2.0
+     */
+    public static <T, R> Future<List<R>> traverse(
+            Iterable<T> iterable, Function<T, Future<R>> function, int maxInFlight
+    ) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        return new Traversal<>(iterable, function, maxInFlight).start();
+    }
+
+    /**
+     * Load the values of {@code keys} in batches with a {@code function} that accepts a batch of keys.
+     * <p>
+     * It likes {@link #batchTraverse(Iterable, Function, ToIntFunction, int, int, int)} but every key weighs 1.
+     *
+     * @param keys         the keys
+     * @param function     the batch function that returns a {@code Future} of the values by key
+     * @param maxBatchSize the maximum number of keys in a batch
+     * @param maxInFlight  the maximum number of uncompleted batches at the same time
+     * @param <K>          the type of the keys
+     * @param <V>          the type of the values
+     * @return an unmodifiable {@code Map} from each distinct key to its value {@code Future}
+     * @since 1.2.0
+     */
+    public static <K, V> Map<K, Future<V>> batchTraverse(
+            Iterable<K> keys, Function<List<K>, Future<Map<K, V>>> function, int maxBatchSize, int maxInFlight
+    ) {
+        return batchTraverse(keys, function, k -> 1, maxBatchSize, maxBatchSize, maxInFlight);
+    }
+
+    /**
+     * Load the values of {@code keys} in batches with a {@code function} that accepts a batch of keys.
+     * <p>
+     * The distinct keys are grouped into batches in order, a batch is closed when it reaches {@code maxBatchSize}
+     * keys or the next key would make its total weight exceed {@code maxBatchWeight} (a key heavier than
+     * {@code maxBatchWeight} forms a batch alone). The batches are passed to the {@code function} as
+     * {@link #traverse(Iterable, Function, int)} does, so at most {@code maxInFlight} batches are uncompleted at the
+     * same time.
+     * <p>
+     * The {@code Future} of a key succeeds with the value in the {@code Map} its batch returned, or with {@code null}
+     * if the key is absent, so the misses can be handled with {@link #defaultWith(Future, Object)},
+     * {@link #nonEmpty(Future)} and so on. If a batch fails, the {@code Future}s of all its keys fail with the same
+     * cause, the other batches are not affected. A batch fails as {@link #joinWrap(Supplier)} does if the
+     * {@code function} throws, or with {@link Failures#emptyValue()} if it returns {@code null}.
+     *
+     * @param keys           the keys
+     * @param function       the batch function that returns a {@code Future} of the values by key
+     * @param weigher        the function to get the weight of a key
+     * @param maxBatchWeight the maximum total weight of a batch
+     * @param maxBatchSize   the maximum number of keys in a batch
+     * @param maxInFlight    the maximum number of uncompleted batches at the same time
+     * @param <K>            the type of the keys
+     * @param <V>            the type of the values
+     * @return an unmodifiable {@code Map} from each distinct key to its value {@code Future}
+     * @throws IllegalArgumentException if {@code maxBatchWeight}, {@code maxBatchSize} or {@code maxInFlight} is not
+     *                                  positive
+     * @since 1.2.0
+     */
+    public static <K, V> Map<K, Future<V>> batchTraverse(
+            Iterable<K> keys, Function<List<K>, Future<Map<K, V>>> function, ToIntFunction<K> weigher,
+            int maxBatchWeight, int maxBatchSize, int maxInFlight
+    ) {
+        if (maxBatchWeight <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "maxBatchWeight and maxBatchSize must be positive: " + maxBatchWeight + ", " + maxBatchSize
+            );
+        }
+
+        Map<K, Promise<V>> promises = new LinkedHashMap<>();
+        for (K key : keys) {
+            promises.computeIfAbsent(key, k -> Promise.promise());
+        }
+
+        List<List<K>> batches = partition(new ArrayList<>(promises.keySet()), weigher, maxBatchWeight, maxBatchSize);
+        traverse(batches, batch -> {
+            Future<Map<K, V>> loaded = joinWrap(batch, function);
+            return (loaded == null ? Failures.<Map<K, V>>failedEmptyValue() : loaded).compose(
+                    map -> settle(promises, batch, map, null), t -> settle(promises, batch, null, t)
+            );
+        }, maxInFlight);
+
+        Map<K, Future<V>> futures = new LinkedHashMap<>();
+        promises.forEach((key, promise) -> futures.put(key, promise.future()));
+        return Collections.unmodifiableMap(futures);
+    }
+
+    /**
+     * Create a {@link ReadStream} that emits the results of the {@link Future}s in the order of their completion.
+     * <p>
+     * See {@link CompletionStream} for details.
+     *
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the {@code CompletionStream}
+     * @since 1.2.0
+     */
+    public static <T> CompletionStream<T> completionStream(Iterable<Future<T>> futures) {
+        return CompletionStream.of(futures);
+    }
+
+    /**
+     * Create a {@link ReadStream} that emits the results of the {@link Future}s in the order of their completion, with
+     * at most {@code window} {@code Future}s pulled but not emitted.
+     * <p>
+     * See {@link CompletionStream} for details.
+     *
+     * @param futures the {@code Future}s
+     * @param window  the maximum number of {@code Future}s pulled but not emitted
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the {@code CompletionStream}
+     * @since 1.2.0
+     */
+    public static <T> CompletionStream<T> completionStream(Iterable<Future<T>> futures, int window) {
+        return CompletionStream.of(futures, window);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Future<List<T>> collect(List<Future<T>> futures, boolean failFast) {
+        int size = futures.size();
+        if (size == 0) {
+            return ConstantFutures.emptyList();
+        }
+
+        Object[] results = new Object[size];
+        AtomicInteger remaining = new AtomicInteger(size);
+        Promise<List<T>> promise = Promise.promise();
+        int i = 0;
+        for (Future<T> future : futures) {
+            int index = i++;
+            future.onComplete(ar -> {
+                if (ar.succeeded()) {
+                    results[index] = ar.result();
+                } else if (failFast) {
+                    promise.tryFail(ar.cause());
+                    return;
+                } else {
+                    results[index] = new Failure(ar.cause());
+                }
+
+                if (remaining.decrementAndGet() == 0) {
+                    Throwable cause = firstFailure(results);
+                    if (cause == null) {
+                        promise.tryComplete((List<T>) Arrays.asList(results));
+                    } else {
+                        promise.tryFail(cause);
+                    }
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    // a generic array can't be created directly, it's safe since only Outcome<T>s are stored in it
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Outcome<T>[] newOutcomes(int size) {
+        return new Outcome[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> quorumResults(Object[] results, int n) {
+        List<T> list = new ArrayList<>(n);
+        for (int i = 0; i < results.length && list.size() < n; i++) {
+            if (results[i] != QUORUM_PENDING) {
+                list.add((T) results[i]);
+            }
+        }
+        return list;
+    }
+
+    private static <K> List<List<K>> partition(
+            List<K> keys, ToIntFunction<K> weigher, int maxBatchWeight, int maxBatchSize
+    ) {
+        List<List<K>> batches = new ArrayList<>();
+        int from = 0;
+        int weight = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            int w = weigher.applyAsInt(keys.get(i));
+            if (i > from && (i - from == maxBatchSize || weight + w > maxBatchWeight)) {
+                batches.add(keys.subList(from, i));
+                from = i;
+                weight = 0;
+            }
+            weight += w;
+        }
+        if (from < keys.size()) {
+            batches.add(keys.subList(from, keys.size()));
+        }
+        return batches;
+    }
+
+    private static <K, V> Future<Void> settle(Map<K, Promise<V>> promises, List<K> batch, Map<K, V> map, Throwable t) {
+        for (K key : batch) {
+            Promise<V> promise = promises.get(key);
+            if (t != null) {
+                promise.fail(t);
+            } else {
+                promise.complete(map == null ? null : map.get(key));
+            }
+        }
+        return Future.succeededFuture();
+    }
+
+    private static Throwable firstFailure(Object[] results) {
+        for (Object result : results) {
+            if (result instanceof Failure) {
+                return ((Failure) result).cause;
+            }
+        }
+        return null;
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
 }
@@ -0,0 +1,206 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A hashed timing wheel shared by the timeouts created on a Vert.x {@link Context}.
+ * <p>
+ * The wheel is kept in the data of the context, which the duplicated contexts created by Vert.x for each request share
+ * with their root context, so all the requests handled by a verticle share one wheel. Scheduling and cancelling a
+ * timeout costs O(1) without registering a Vert.x timer, a single periodic timer drives the wheel while it has pending
+ * timeouts. A timeout fires up to one tick late. The wheel is only mutated on the event loop thread that owns it, a
+ * timeout scheduled from another thread (e.g. a worker thread of {@code executeBlocking}) is linked by a task passed
+ * to {@link Context#runOnContext}, and a timeout cancelled from another thread is just marked and dropped when its
+ * bucket is visited. The wheel of a worker context has no owner thread, so all its timeouts take that slower path.
+ */
+final class TimingWheel {
+    static final long TICK_MILLIS = 10;
+    static final int WHEEL_SIZE = 512;
+
+    private static final Object KEY = new Object();
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Context context;
+    private final LongSupplier ticker;
+    private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+    private final long startNanos;
+
+    private long tick;
+    private int size;
+    private long timerId = -1;
+    private volatile Thread owner;
+
+    TimingWheel(Context context, LongSupplier ticker) {
+        this.context = context;
+        this.ticker = ticker;
+        this.startNanos = ticker.getAsLong();
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            buckets[i] = new Timeout(null, null, 0);
+            buckets[i].prev = buckets[i];
+            buckets[i].next = buckets[i];
+        }
+
+        if (context.isEventLoopContext()) {
+            if (Vertx.currentContext() == context && Context.isOnEventLoopThread()) {
+                owner = Thread.currentThread();
+            } else {
+                context.runOnContext(v -> owner = Thread.currentThread());
+            }
+        }
+    }
+
+    /**
+     * Return the wheel of the current context, create it if absent.
+     *
+     * @return the wheel, or {@code null} if not called on a Vert.x context
+     */
+    static TimingWheel current() {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return null;
+        }
+
+        TimingWheel wheel = context.get(KEY);
+        if (wheel == null) {
+            wheel = new TimingWheel(context, System::nanoTime);
+            context.put(KEY, wheel);
+        }
+        return wheel;
+    }
+
+    Timeout schedule(long delayNanos, Runnable task) {
+        long elapsed = ticker.getAsLong() - startNanos + Math.max(delayNanos, 0);
+        Timeout timeout = new Timeout(this, task, (elapsed + TICK_NANOS - 1) / TICK_NANOS);
+        if (isConfined()) {
+            add(timeout);
+        } else {
+            context.runOnContext(v -> add(timeout));
+        }
+        return timeout;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isTicking() {
+        return timerId != -1;
+    }
+
+    void advance() {
+        long target = (ticker.getAsLong() - startNanos) / TICK_NANOS;
+        List<Timeout> expired = new ArrayList<>();
+        for (long t = tick; t <= target && t < tick + WHEEL_SIZE; t++) {
+            Timeout head = buckets[(int) (t & MASK)];
+            for (Timeout timeout = head.next; timeout != head; ) {
+                Timeout next = timeout.next;
+                if (timeout.cancelled) {
+                    remove(timeout);
+                } else if (timeout.deadline <= target) {
+                    remove(timeout);
+                    expired.add(timeout);
+                }
+                timeout = next;
+            }
+        }
+        tick = target + 1;
+
+        for (Timeout timeout : expired) {
+            timeout.task.run();
+        }
+    }
+
+    private boolean isConfined() {
+        return Thread.currentThread() == owner;
+    }
+
+    private void add(Timeout timeout) {
+        if (timeout.cancelled) {
+            return;
+        }
+
+        if (size == 0) {
+            tick = (ticker.getAsLong() - startNanos) / TICK_NANOS;
+        }
+        timeout.deadline = Math.max(timeout.deadline, tick);
+        link(buckets[(int) (timeout.deadline & MASK)], timeout);
+        if (size++ == 0) {
+            timerId = context.owner().setPeriodic(TICK_MILLIS, id -> advance());
+        }
+    }
+
+    private void remove(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+        if (--size == 0) {
+            context.owner().cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+
+    private static void link(Timeout head, Timeout timeout) {
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    /**
+     * A timeout scheduled on a {@link TimingWheel}.
+     */
+    static final class Timeout {
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private long deadline;
+        private Timeout prev;
+        private Timeout next;
+        private volatile boolean cancelled;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancel the timeout, it is unlinked immediately if called on the event loop thread of the wheel.
+         */
+        void cancel() {
+            cancelled = true;
+            if (wheel.isConfined() && prev != null) {
+                wheel.remove(this);
+            }
+        }
+    }
+}
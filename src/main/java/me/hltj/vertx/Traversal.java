@@ -0,0 +1,136 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The state of a {@link FutureUtils#traverse(Iterable, Function, int)} call.
+ * <p>
+ * The inputs are pulled lazily, only one thread launches new {@code Future}s at a time, and completions that arrive
+ * meanwhile are picked up by that thread before it leaves.
+ */
+final class Traversal<T, R> {
+    private final Iterator<T> iterator;
+    private final Function<T, Future<R>> function;
+    private final int maxInFlight;
+    private final List<R> results;
+    private final Promise<List<R>> promise = Promise.promise();
+
+    private int inFlight;
+    private boolean draining;
+    private boolean missed;
+    private boolean done;
+
+    Traversal(Iterable<T> iterable, Function<T, Future<R>> function, int maxInFlight) {
+        this.iterator = iterable.iterator();
+        this.function = function;
+        this.maxInFlight = maxInFlight;
+        this.results = iterable instanceof Collection ? new ArrayList<>(((Collection<T>) iterable).size())
+                : new ArrayList<>();
+    }
+
+    Future<List<R>> start() {
+        drain();
+        return promise.future();
+    }
+
+    @SuppressWarnings("java:S1181")
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                missed = true;
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            int index = -1;
+            T item = null;
+            Throwable failure = null;
+            boolean completed = false;
+            synchronized (this) {
+                try {
+                    if (!done && inFlight < maxInFlight && iterator.hasNext()) {
+                        item = iterator.next();
+                        index = results.size();
+                        results.add(null);
+                        inFlight++;
+                    } else if (missed) {
+                        missed = false;
+                        continue;
+                    } else {
+                        draining = false;
+                        completed = !done && inFlight == 0;
+                        done = done || completed;
+                    }
+                } catch (Throwable t) {
+                    draining = false;
+                    done = true;
+                    failure = t;
+                }
+            }
+
+            if (index >= 0) {
+                int i = index;
+                FutureUtils.joinWrap(item, function).onComplete(ar -> onComplete(i, ar));
+            } else {
+                if (failure != null) {
+                    promise.tryFail(failure);
+                } else if (completed) {
+                    promise.tryComplete(results);
+                }
+                return;
+            }
+        }
+    }
+
+    private void onComplete(int index, AsyncResult<R> ar) {
+        synchronized (this) {
+            inFlight--;
+            if (done) {
+                return;
+            }
+            if (ar.failed()) {
+                done = true;
+            } else {
+                results.set(index, ar.result());
+            }
+        }
+
+        if (ar.failed()) {
+            promise.tryFail(ar.cause());
+        } else {
+            drain();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A concurrency limiter that adapts its limit of the in-flight calls with AIMD (additive increase, multiplicative
+ * decrease), as the congestion control of TCP does.
+ * <p>
+ * A call that succeeds within {@code latencyThreshold} while at least half of the limit is in use increases the limit
+ * by {@code 1 / limit}, so about one per round trip of a fully used limit. A call that fails or takes longer than
+ * {@code latencyThreshold} multiplies the limit by {@code backoffRatio}. The limit always stays within its bounds,
+ * and a call beyond the limit is rejected immediately with a {@link RejectedException} without being made.
+ * <p>
+ * The limit and the in-flight count are updated with atomic operations only, so a limiter can be shared by several
+ * event loops.
+ *
+ * @since 1.2.0
+ */
+public final class AdaptiveLimiter {
+    private static final long SCALE = 1000;
+
+    private final long minLimit;
+    private final long maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongSupplier ticker;
+    private final RejectedException rejected = new RejectedException("concurrency limit exceeded");
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // the limit in thousandths
+    private final AtomicLong limit;
+
+    private AdaptiveLimiter(Builder builder) {
+        this.minLimit = builder.minLimit * SCALE;
+        this.maxLimit = builder.maxLimit * SCALE;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThresholdNanos = builder.latencyThresholdNanos;
+        this.ticker = builder.ticker;
+        this.limit = new AtomicLong(Math.min(Math.max(builder.initialLimit * SCALE, minLimit), maxLimit));
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link AdaptiveLimiter}, by default the limit starts at 20 within
+     * {@code [1, 1000]}, backs off by 0.9 and a call slower than 5 seconds counts as a drop.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Call the {@code supplier} if the limit permits, and adapt the limit to its round-trip time and outcome.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does. If the limit is reached,
+     * the {@code supplier} is not called and the returned {@code Future} fails with a {@link RejectedException}.
+     *
+     * @param supplier the supplier to make the call
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> supplier) {
+        if (!tryAcquire()) {
+            return Future.failedFuture(RejectedException.of(rejected));
+        }
+
+        long start = ticker.getAsLong();
+        return FutureUtils.joinWrap(supplier).onComplete(ar -> release(start, ar.succeeded()));
+    }
+
+    /**
+     * Return the current limit of the in-flight calls.
+     */
+    public int limit() {
+        return (int) (limit.get() / SCALE);
+    }
+
+    /**
+     * Return the number of the in-flight calls.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release(long start, boolean succeeded) {
+        int current = inFlight.getAndDecrement();
+        if (!succeeded || ticker.getAsLong() - start > latencyThresholdNanos) {
+            decrease();
+        } else if (current * 2L >= limit()) {
+            increase();
+        }
+    }
+
+    private void increase() {
+        long current;
+        do {
+            current = limit.get();
+            if (current >= maxLimit) {
+                return;
+            }
+        } while (!limit.compareAndSet(current, Math.min(current + SCALE * SCALE / current, maxLimit)));
+    }
+
+    private void decrease() {
+        long current;
+        do {
+            current = limit.get();
+            if (current <= minLimit) {
+                return;
+            }
+        } while (!limit.compareAndSet(current, Math.max((long) (current * backoffRatio), minLimit)));
+    }
+
+    /**
+     * The builder of {@link AdaptiveLimiter}.
+     */
+    public static final class Builder {
+        private long initialLimit = 20;
+        private long minLimit = 1;
+        private long maxLimit = 1000;
+        private double backoffRatio = 0.9;
+        private long latencyThresholdNanos = TimeUnit.SECONDS.toNanos(5);
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the initial limit, it is clamped to the bounds.
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Set the bounds of the limit.
+         *
+         * @throws IllegalArgumentException if {@code min} is not positive or {@code max} is less than {@code min}
+         */
+        public Builder limitBounds(int min, int max) {
+            if (min <= 0 || max < min) {
+                throw new IllegalArgumentException("invalid limit bounds: " + min + ", " + max);
+            }
+            this.minLimit = min;
+            this.maxLimit = max;
+            return this;
+        }
+
+        /**
+         * Set the ratio to multiply the limit by on a drop.
+         *
+         * @throws IllegalArgumentException if {@code backoffRatio} is not in {@code [0.5, 1)}
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio >= 0.5 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("backoffRatio must be in [0.5, 1): " + backoffRatio);
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Set the round-trip time beyond which a successful call counts as a drop.
+         */
+        public Builder latencyThreshold(Duration latencyThreshold) {
+            this.latencyThresholdNanos = latencyThreshold.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Build the {@link AdaptiveLimiter}.
+         */
+        public AdaptiveLimiter build() {
+            return new AdaptiveLimiter(this);
+        }
+    }
+}
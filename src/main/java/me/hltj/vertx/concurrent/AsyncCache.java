@@ -0,0 +1,314 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * An asynchronous loading cache that memoizes a {@code Function<K, Future<V>>}.
+ * <p>
+ * The uncompleted {@link Future} of a key is shared by all the callers, the completed one is kept until it expires
+ * or is evicted. The time to live is counted from the completion, and can be set separately for the values,
+ * the empty results (succeeded with {@code null}) and the failures, by default the values and the empty results
+ * never expire while the failures are not cached at all.
+ * <p>
+ * When a maximum size is set, the cache evicts entries with the CLOCK (second chance) algorithm, an approximation of
+ * LRU that only sets a flag on hit. When a maximum size or a finite time to live is set, each load also advances the
+ * clock hand by a couple of entries to purge the expired ones, and the entries invalidated or replaced are dropped
+ * from the clock once they outnumber the live ones. All the operations are thread-safe and lock-free.
+ * <p>
+ * Use {@code cache::get} as the function passed to {@link FutureUtils#joinWrap(Object, Function)},
+ * {@link FutureUtils#flatMapSome(Future, Function)} and so on.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type parameter of the {@code Future}s
+ * @since 1.2.0
+ */
+public final class AsyncCache<K, V> {
+    private final Function<K, Future<V>> function;
+    private final long ttlNanos;
+    private final long emptyTtlNanos;
+    private final long failureTtlNanos;
+    private final long maximumSize;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger clockSize = new AtomicInteger();
+    private final boolean tracked;
+
+    private AsyncCache(Builder<K, V> builder) {
+        this.function = builder.function;
+        this.ttlNanos = builder.ttlNanos;
+        this.emptyTtlNanos = builder.emptyTtlNanos;
+        this.failureTtlNanos = builder.failureTtlNanos;
+        this.maximumSize = builder.maximumSize;
+        this.ticker = builder.ticker;
+        this.tracked = maximumSize != Long.MAX_VALUE || ttlNanos != Long.MAX_VALUE || emptyTtlNanos != Long.MAX_VALUE
+                || failureTtlNanos > 0 && failureTtlNanos != Long.MAX_VALUE;
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link AsyncCache} that memoizes the {@code function}.
+     *
+     * @param function the function to load the value of a key
+     * @param <K>      the type of the keys
+     * @param <V>      the type parameter of the {@code Future}s
+     * @return the {@code Builder}
+     */
+    public static <K, V> Builder<K, V> builder(Function<K, Future<V>> function) {
+        return new Builder<>(function);
+    }
+
+    /**
+     * Return the cached {@link Future} of the {@code key}, or load it with the function.
+     * <p>
+     * The function is applied as {@link FutureUtils#joinWrap(Object, Function)} does.
+     *
+     * @param key the key
+     * @return the {@code Future}
+     */
+    public Future<V> get(K key) {
+        while (true) {
+            Entry<K, V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(ticker.getAsLong())) {
+                entry.referenced = true;
+                return entry.future;
+            }
+
+            Promise<V> promise = Promise.promise();
+            Entry<K, V> created = new Entry<>(key, promise.future());
+            if (entry == null ? entries.putIfAbsent(key, created) == null : entries.replace(key, entry, created)) {
+                if (tracked) {
+                    clock.add(created);
+                    clockSize.incrementAndGet();
+                    evict();
+                    sweep(SWEEP_STEPS);
+                    compact();
+                }
+                FutureUtils.joinWrap(key, function).onComplete(ar -> {
+                    onComplete(created, ar);
+                    promise.handle(ar);
+                });
+                return created.future;
+            }
+        }
+    }
+
+    /**
+     * Discard the cached {@link Future} of the {@code key}, the uncompleted one is still shared by the callers that
+     * already got it.
+     */
+    public void invalidate(K key) {
+        if (entries.remove(key) != null) {
+            compact();
+        }
+    }
+
+    /**
+     * Discard all the cached {@link Future}s.
+     */
+    public void invalidateAll() {
+        entries.clear();
+        sweep(clockSize.get());
+    }
+
+    /**
+     * Return the number of the entries, including the uncompleted and the expired but not cleaned ones.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void onComplete(Entry<K, V> entry, AsyncResult<V> ar) {
+        long ttl;
+        if (ar.failed()) {
+            ttl = failureTtlNanos;
+        } else {
+            ttl = ar.result() == null ? emptyTtlNanos : ttlNanos;
+        }
+
+        if (ttl <= 0) {
+            if (entries.remove(entry.key, entry)) {
+                compact();
+            }
+        } else if (ttl != Long.MAX_VALUE) {
+            long now = ticker.getAsLong();
+            entry.expiresAt = now + ttl < now ? Long.MAX_VALUE : now + ttl;
+        }
+    }
+
+    /**
+     * Return the number of the entries in the clock, including the ones already removed from the cache.
+     */
+    int clockSize() {
+        return clockSize.get();
+    }
+
+    private void evict() {
+        while (entries.size() > maximumSize) {
+            Entry<K, V> entry = clock.poll();
+            if (entry == null) {
+                return;
+            } else if (entries.get(entry.key) != entry) {
+                clockSize.decrementAndGet();
+                continue;
+            }
+
+            if (entry.referenced && !entry.isExpired(ticker.getAsLong())) {
+                entry.referenced = false;
+                clock.add(entry);
+            } else {
+                entries.remove(entry.key, entry);
+                clockSize.decrementAndGet();
+            }
+        }
+    }
+
+    // drop the entries no longer in the cache once they outnumber the live ones, so the cost is amortized O(1)
+    private void compact() {
+        if (tracked && clockSize.get() > 2 * entries.size() + SWEEP_STEPS) {
+            sweep(clockSize.get());
+        }
+    }
+
+    // advance the clock hand by at most `steps` entries, dropping the removed and the expired ones
+    private void sweep(int steps) {
+        long now = ticker.getAsLong();
+        for (int i = 0; i < steps; i++) {
+            Entry<K, V> entry = clock.poll();
+            if (entry == null) {
+                return;
+            }
+
+            if (entries.get(entry.key) == entry && !entry.isExpired(now)) {
+                clock.add(entry);
+            } else {
+                entries.remove(entry.key, entry);
+                clockSize.decrementAndGet();
+            }
+        }
+    }
+
+    private static final int SWEEP_STEPS = 2;
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final Future<V> future;
+        private volatile long expiresAt = Long.MAX_VALUE;
+        private volatile boolean referenced;
+
+        private Entry(K key, Future<V> future) {
+            this.key = key;
+            this.future = future;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * The builder of {@link AsyncCache}.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type parameter of the {@code Future}s
+     */
+    public static final class Builder<K, V> {
+        private final Function<K, Future<V>> function;
+        private long ttlNanos = Long.MAX_VALUE;
+        private long emptyTtlNanos = Long.MAX_VALUE;
+        private long failureTtlNanos;
+        private long maximumSize = Long.MAX_VALUE;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Function<K, Future<V>> function) {
+            this.function = function;
+        }
+
+        /**
+         * Set the time to live of the values and the empty results, counted from the completion.
+         */
+        public Builder<K, V> expireAfterWrite(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+            this.emptyTtlNanos = ttlNanos;
+            return this;
+        }
+
+        /**
+         * Set the time to live of the empty results, counted from the completion, {@link Duration#ZERO} means that
+         * the empty results are not cached.
+         */
+        public Builder<K, V> expireEmptyAfterWrite(Duration ttl) {
+            this.emptyTtlNanos = ttl.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the time to live of the failures, counted from the completion, {@link Duration#ZERO} (the default)
+         * means that the failures are not cached.
+         */
+        public Builder<K, V> expireFailureAfterWrite(Duration ttl) {
+            this.failureTtlNanos = ttl.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the maximum number of the entries.
+         *
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Set the time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Build the {@link AsyncCache}.
+         */
+        public AsyncCache<K, V> build() {
+            return new AsyncCache<>(this);
+        }
+    }
+}
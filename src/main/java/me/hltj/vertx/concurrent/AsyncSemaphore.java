@@ -0,0 +1,151 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import me.hltj.vertx.FutureUtils;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking semaphore that limits how many {@link Future}s started by suppliers are in flight at once,
+ * a bulkhead that keeps one slow dependency from piling up pending calls.
+ * <p>
+ * A call that finds no free permit waits in a bounded FIFO queue, and fails immediately with a
+ * {@link RejectedException} if the queue is full. The permit is released when the {@code Future} completes.
+ * All the operations are thread-safe, only one thread starts the queued calls at a time, and releases that arrive
+ * meanwhile are picked up by that thread before it leaves.
+ *
+ * @since 1.2.0
+ */
+public final class AsyncSemaphore {
+    private final int maxQueued;
+    private final Queue<Runnable> waiters = new ArrayDeque<>();
+    private final RejectedException rejected = new RejectedException("too many concurrent calls");
+
+    private int available;
+    private boolean draining;
+
+    private AsyncSemaphore(int permits, int maxQueued) {
+        this.available = permits;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Create an {@link AsyncSemaphore}.
+     *
+     * @param permits   the maximum number of the in-flight calls
+     * @param maxQueued the maximum number of the calls waiting for a permit
+     * @return the {@code AsyncSemaphore}
+     * @throws IllegalArgumentException if {@code permits} is not positive or {@code maxQueued} is negative
+     */
+    public static AsyncSemaphore create(int permits, int maxQueued) {
+        if (permits <= 0 || maxQueued < 0) {
+            throw new IllegalArgumentException(
+                    "permits must be positive and maxQueued must not be negative: " + permits + ", " + maxQueued
+            );
+        }
+        return new AsyncSemaphore(permits, maxQueued);
+    }
+
+    /**
+     * Call the {@code supplier} once a permit is available, and release the permit when the returned {@link Future}
+     * completes.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does.
+     *
+     * @param supplier the supplier to start a {@code Future}
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the {@code Future}, or a failed one with a {@link RejectedException} if the queue is full
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> supplier) {
+        Promise<T> promise;
+        synchronized (this) {
+            if (available > 0 && waiters.isEmpty()) {
+                available--;
+                promise = null;
+            } else if (waiters.size() < maxQueued) {
+                promise = Promise.promise();
+                waiters.add(() -> run(supplier).onComplete(promise));
+            } else {
+                return Future.failedFuture(RejectedException.of(rejected));
+            }
+        }
+
+        if (promise == null) {
+            return run(supplier);
+        }
+        drain();
+        return promise.future();
+    }
+
+    /**
+     * Return the number of the free permits.
+     */
+    public synchronized int available() {
+        return available;
+    }
+
+    /**
+     * Return the number of the calls waiting for a permit.
+     */
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    private <T> Future<T> run(Supplier<Future<T>> supplier) {
+        return FutureUtils.joinWrap(supplier).onComplete(ar -> release());
+    }
+
+    private void release() {
+        synchronized (this) {
+            available++;
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (true) {
+            Runnable waiter;
+            synchronized (this) {
+                if (draining || available == 0 || waiters.isEmpty()) {
+                    return;
+                }
+                draining = true;
+                available--;
+                waiter = waiters.poll();
+            }
+
+            try {
+                waiter.run();
+            } finally {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+    }
+}
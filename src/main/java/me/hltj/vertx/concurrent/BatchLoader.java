@@ -0,0 +1,121 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import me.hltj.vertx.FutureUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A loader that coalesces the {@link #load(Object)} calls made during one turn of a Vert.x {@link Context} into
+ * a single call of a batch function.
+ * <p>
+ * The first {@code load()} on a context in a turn schedules a dispatch with {@link Context#runOnContext}, the keys
+ * loaded on the same context before the dispatch runs are merged (duplicated keys are loaded once) and passed to
+ * the batch function as {@link FutureUtils#batchTraverse(Iterable, Function, int, int)} does.
+ * <p>
+ * The returned {@link Future} succeeds with {@code null} if the key is absent from the batch result, so it works
+ * with {@link FutureUtils#mapSome(Future, Function)}, {@link FutureUtils#defaultWith(Future, Object)} and so on.
+ * A {@code load()} outside a Vert.x context is not coalesced but dispatched immediately.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.2.0
+ */
+public final class BatchLoader<K, V> {
+    private final Function<List<K>, Future<Map<K, V>>> function;
+    private final int maxBatchSize;
+
+    private BatchLoader(Function<List<K>, Future<Map<K, V>>> function, int maxBatchSize) {
+        this.function = function;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Create a {@link BatchLoader} that passes all the keys of a turn to the batch function at once.
+     *
+     * @param function the batch function that returns a {@code Future} of the values by key
+     * @param <K>      the type of the keys
+     * @param <V>      the type of the values
+     * @return the {@code BatchLoader}
+     */
+    public static <K, V> BatchLoader<K, V> of(Function<List<K>, Future<Map<K, V>>> function) {
+        return new BatchLoader<>(function, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a {@link BatchLoader} that passes at most {@code maxBatchSize} keys to the batch function at once.
+     *
+     * @param function     the batch function that returns a {@code Future} of the values by key
+     * @param maxBatchSize the maximum number of keys in a batch
+     * @param <K>          the type of the keys
+     * @param <V>          the type of the values
+     * @return the {@code BatchLoader}
+     * @throws IllegalArgumentException if {@code maxBatchSize} is not positive
+     */
+    public static <K, V> BatchLoader<K, V> of(Function<List<K>, Future<Map<K, V>>> function, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        return new BatchLoader<>(function, maxBatchSize);
+    }
+
+    /**
+     * Load the value of a key in the batch of the current turn.
+     *
+     * @param key the key
+     * @return the {@code Future} of the value
+     */
+    public Future<V> load(K key) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return dispatch(Collections.singletonMap(key, Promise.promise())).get(key).future();
+        }
+
+        Map<K, Promise<V>> pending = context.get(this);
+        if (pending == null) {
+            Map<K, Promise<V>> batch = new LinkedHashMap<>();
+            context.put(this, batch);
+            context.runOnContext(v -> {
+                context.remove(this);
+                dispatch(batch);
+            });
+            pending = batch;
+        }
+        return pending.computeIfAbsent(key, k -> Promise.promise()).future();
+    }
+
+    private Map<K, Promise<V>> dispatch(Map<K, Promise<V>> batch) {
+        Map<K, Future<V>> futures = FutureUtils.batchTraverse(batch.keySet(), function, maxBatchSize, Integer.MAX_VALUE);
+        batch.forEach((key, promise) -> futures.get(key).onComplete(promise));
+        return batch;
+    }
+}
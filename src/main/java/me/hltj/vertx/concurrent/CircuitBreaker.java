@@ -0,0 +1,293 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A circuit breaker that stops calling a failing backend for a while.
+ * <p>
+ * While {@code CLOSED}, the outcomes are counted in a rolling window of 10 slices, the breaker opens once the window
+ * has at least {@code minimumCalls} outcomes and the failure rate reaches {@code failureRateThreshold}. While
+ * {@code OPEN}, the calls are rejected with a {@link CircuitBreakerOpenException} without being made. After
+ * {@code openDuration}, a single trial call is permitted ({@code HALF_OPEN}), its success closes the breaker and its
+ * failure opens it again. If the trial does not complete within another {@code openDuration}, a new trial is
+ * permitted. A {@code Future} that succeeds with {@code null} is a success.
+ * <p>
+ * Each permit carries the generation of the state it was acquired in, so only the trial decides the {@code HALF_OPEN}
+ * state, and a call that completes after the state has changed is not recorded. The state and the window are updated
+ * with atomic operations only, a slice is cleared lazily by the first record of a new period and the records that
+ * race with the clearing may be lost.
+ *
+ * @since 1.2.0
+ */
+public final class CircuitBreaker {
+    private static final int SLICES = 10;
+    private static final long REJECTED = -1;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long sliceNanos;
+    private final long openNanos;
+    private final LongSupplier ticker;
+    private final CircuitBreakerOpenException openException = new CircuitBreakerOpenException();
+    // the generation in the high 62 bits and the ordinal of the State in the low 2 bits
+    private final AtomicLong state = new AtomicLong(State.CLOSED.ordinal());
+    private final AtomicLong[] epochs = new AtomicLong[SLICES];
+    // the successes in the high 32 bits and the failures in the low 32 bits
+    private final AtomicLong[] counts = new AtomicLong[SLICES];
+
+    private volatile long changedAt;
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.sliceNanos = Math.max(builder.windowNanos / SLICES, 1);
+        this.openNanos = builder.openNanos;
+        this.ticker = builder.ticker;
+        for (int i = 0; i < SLICES; i++) {
+            epochs[i] = new AtomicLong(Long.MIN_VALUE);
+            counts[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link CircuitBreaker}, by default it opens at a failure rate of 50% with at
+     * least 20 calls in 10 seconds, and stays open for 5 seconds.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Call the {@code supplier} if the breaker permits, and record the outcome.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does. If the breaker does not permit,
+     * the {@code supplier} is not called and the returned {@code Future} fails with a
+     * {@link CircuitBreakerOpenException}.
+     *
+     * @param supplier the supplier to make the call
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> supplier) {
+        long permit = tryAcquire();
+        if (permit < 0) {
+            return Future.failedFuture(CircuitBreakerOpenException.of(openException));
+        }
+        return FutureUtils.joinWrap(supplier).onComplete(ar -> record(permit, ar.succeeded()));
+    }
+
+    /**
+     * Record the outcome of a {@link Future} that is already started if the breaker permits.
+     * <p>
+     * If the breaker does not permit, a {@code Future} failed with a {@link CircuitBreakerOpenException} is returned
+     * immediately instead of waiting for the original one.
+     *
+     * @param future the {@code Future}
+     * @param <T>    the type parameter of the {@code Future}
+     * @return the original {@code Future}, or a failed one if the breaker does not permit
+     */
+    public <T> Future<T> guard(Future<T> future) {
+        long permit = tryAcquire();
+        if (permit < 0) {
+            return Future.failedFuture(CircuitBreakerOpenException.of(openException));
+        }
+        return future.onComplete(ar -> record(permit, ar.succeeded()));
+    }
+
+    /**
+     * Try to acquire a permit for a call, a permit acquired in the {@code HALF_OPEN} state makes the caller the trial
+     * call, whose outcome must be recorded.
+     *
+     * @return the permit to pass to {@link #record(long, boolean)}, or a negative value if the call is not permitted
+     */
+    public long tryAcquire() {
+        long current = state.get();
+        if (stateOf(current) == State.CLOSED) {
+            return current;
+        } else if (ticker.getAsLong() - changedAt >= openNanos) {
+            // the open duration has passed, or the trial has not completed within it
+            return transit(current, State.HALF_OPEN);
+        }
+        return REJECTED;
+    }
+
+    /**
+     * Record the outcome of a permitted call, it is ignored if the state has changed since the permit was acquired.
+     *
+     * @param permit    the permit returned by {@link #tryAcquire()}
+     * @param succeeded whether the call succeeded
+     */
+    public void record(long permit, boolean succeeded) {
+        if (permit < 0 || state.get() != permit) {
+            return;
+        }
+
+        if (stateOf(permit) == State.HALF_OPEN) {
+            if (succeeded) {
+                close(permit);
+            } else {
+                transit(permit, State.OPEN);
+            }
+        } else if (count(succeeded)) {
+            transit(permit, State.OPEN);
+        }
+    }
+
+    /**
+     * Return the current state.
+     */
+    public State state() {
+        return stateOf(state.get());
+    }
+
+    private static State stateOf(long value) {
+        return State.values()[(int) (value & 3)];
+    }
+
+    private boolean count(boolean succeeded) {
+        long now = ticker.getAsLong();
+        long epoch = Math.floorDiv(now, sliceNanos);
+        int slice = (int) Math.floorMod(epoch, (long) SLICES);
+        long current = epochs[slice].get();
+        if (current != epoch && epochs[slice].compareAndSet(current, epoch)) {
+            counts[slice].set(0);
+        }
+        counts[slice].addAndGet(succeeded ? 1L << 32 : 1);
+        if (succeeded) {
+            return false;
+        }
+
+        long successes = 0;
+        long failures = 0;
+        for (int i = 0; i < SLICES; i++) {
+            long e = epochs[i].get();
+            if (e > epoch - SLICES && e <= epoch) {
+                long count = counts[i].get();
+                successes += count >>> 32;
+                failures += count & 0xFFFFFFFFL;
+            }
+        }
+        long total = successes + failures;
+        return total >= minimumCalls && failures >= failureRateThreshold * total;
+    }
+
+    private long transit(long from, State to) {
+        long next = ((from >>> 2) + 1) << 2 | to.ordinal();
+        changedAt = ticker.getAsLong();
+        return state.compareAndSet(from, next) ? next : REJECTED;
+    }
+
+    private void close(long from) {
+        for (int i = 0; i < SLICES; i++) {
+            epochs[i].set(Long.MIN_VALUE);
+        }
+        transit(from, State.CLOSED);
+    }
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * The builder of {@link CircuitBreaker}.
+     */
+    public static final class Builder {
+        private double failureRateThreshold = 0.5;
+        private int minimumCalls = 20;
+        private long windowNanos = TimeUnit.SECONDS.toNanos(10);
+        private long openNanos = TimeUnit.SECONDS.toNanos(5);
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the failure rate to open the breaker.
+         *
+         * @throws IllegalArgumentException if {@code failureRateThreshold} is not in {@code (0, 1]}
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Set the minimum number of outcomes in the window before the failure rate is checked.
+         *
+         * @throws IllegalArgumentException if {@code minimumCalls} is not positive
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Set the rolling window of the outcomes.
+         */
+        public Builder window(Duration window) {
+            this.windowNanos = window.toNanos();
+            return this;
+        }
+
+        /**
+         * Set how long the breaker stays open before a trial call.
+         */
+        public Builder openDuration(Duration openDuration) {
+            this.openNanos = openDuration.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Build the {@link CircuitBreaker}.
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
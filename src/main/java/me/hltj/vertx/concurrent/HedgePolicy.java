@@ -0,0 +1,229 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A policy to hedge the slow {@link Future}s, used by {@link FutureUtils#hedge(Supplier, HedgePolicy)}.
+ * <p>
+ * If the first attempt does not complete within a delay, a second attempt is started and the first one that
+ * succeeds wins. The delay is the {@code percentile} of the latencies of the succeeded attempts in a sliding
+ * {@code window}, bounded by {@code minDelay} and {@code maxDelay} ({@code maxDelay} is used until any latency is
+ * recorded), and it is refreshed at most every 100 milliseconds. The hedges are limited by a {@link RetryBudget},
+ * by default at most 10% of the calls plus a burst of 10.
+ * <p>
+ * The hedge is scheduled with a Vert.x timer on the current context, in whole milliseconds (at least 1), and the
+ * timer is cancelled as soon as the first attempt completes. A policy is thread-safe and usually shared by all the
+ * callers of a backend, so that the latencies are tracked together.
+ *
+ * @since 1.2.0
+ */
+public final class HedgePolicy {
+    private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final RetryBudget budget;
+    private final LongSupplier ticker;
+    private final LatencyHistogram histogram;
+
+    private volatile long delayNanos;
+    private volatile long refreshedAt;
+
+    private HedgePolicy(Builder builder) {
+        this.percentile = builder.percentile;
+        this.minDelayNanos = builder.minDelayNanos;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.budget = builder.budget;
+        this.ticker = builder.ticker;
+        this.histogram = new LatencyHistogram(builder.windowNanos);
+        this.delayNanos = maxDelayNanos;
+        this.refreshedAt = ticker.getAsLong();
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link HedgePolicy}, by default it hedges at the 95th percentile of the
+     * latencies in 10 seconds, with the delay between 1 millisecond and 1 second.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Call the {@code supplier}, and call it again if the first attempt is slow as the policy allows.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does. The returned {@code Future}
+     * succeeds with the first succeeded attempt, or fails with the cause of the last failed one if all the started
+     * attempts fail. The slower attempt is not cancelled. If it is not called on a Vert.x context, there is no timer
+     * to drive the hedge, and a {@code Future} failed with {@link IllegalStateException} is returned without calling
+     * the {@code supplier}.
+     *
+     * @param supplier the supplier to start an attempt
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> supplier) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return Future.failedFuture(new IllegalStateException("hedged calls must be started on a Vert.x context"));
+        }
+
+        budget.deposit();
+        Promise<T> promise = Promise.promise();
+        AtomicInteger pending = new AtomicInteger(1);
+        Future<T> first = attempt(supplier, promise, pending);
+        if (first.isComplete()) {
+            return promise.future();
+        }
+
+        Vertx vertx = context.owner();
+        long delayMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(currentDelayNanos()), 1);
+        long timerId = vertx.setTimer(delayMillis, id -> {
+            if (!first.isComplete() && !promise.future().isComplete() && budget.tryWithdraw()) {
+                pending.incrementAndGet();
+                attempt(supplier, promise, pending);
+            }
+        });
+        first.onComplete(ar -> vertx.cancelTimer(timerId));
+        return promise.future();
+    }
+
+    /**
+     * Return the current hedge delay.
+     */
+    public Duration delay() {
+        return Duration.ofNanos(currentDelayNanos());
+    }
+
+    private <T> Future<T> attempt(Supplier<Future<T>> supplier, Promise<T> promise, AtomicInteger pending) {
+        long start = ticker.getAsLong();
+        Future<T> future = FutureUtils.joinWrap(supplier);
+        future.onComplete(ar -> {
+            if (ar.succeeded()) {
+                long now = ticker.getAsLong();
+                histogram.record(now - start, now);
+                promise.tryComplete(ar.result());
+            } else if (pending.decrementAndGet() == 0) {
+                promise.tryFail(ar.cause());
+            }
+        });
+        return future;
+    }
+
+    private long currentDelayNanos() {
+        long now = ticker.getAsLong();
+        if (now - refreshedAt >= REFRESH_NANOS) {
+            refreshedAt = now;
+            long latency = histogram.percentile(percentile, now);
+            delayNanos = latency < 0 ? maxDelayNanos : Math.min(Math.max(latency, minDelayNanos), maxDelayNanos);
+        }
+        return delayNanos;
+    }
+
+    /**
+     * The builder of {@link HedgePolicy}.
+     */
+    public static final class Builder {
+        private double percentile = 0.95;
+        private long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(1);
+        private long maxDelayNanos = TimeUnit.SECONDS.toNanos(1);
+        private long windowNanos = TimeUnit.SECONDS.toNanos(10);
+        private RetryBudget budget = RetryBudget.create(10, 0.1);
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the percentile of the latencies used as the hedge delay.
+         *
+         * @throws IllegalArgumentException if {@code percentile} is not in {@code (0, 1]}
+         */
+        public Builder percentile(double percentile) {
+            if (!(percentile > 0 && percentile <= 1)) {
+                throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Set the bounds of the hedge delay, the {@code maxDelay} is also used before any latency is recorded.
+         *
+         * @throws IllegalArgumentException if {@code minDelay} is greater than {@code maxDelay}
+         */
+        public Builder delayBounds(Duration minDelay, Duration maxDelay) {
+            if (minDelay.compareTo(maxDelay) > 0) {
+                throw new IllegalArgumentException(
+                        "minDelay must not be greater than maxDelay: " + minDelay + ", " + maxDelay
+                );
+            }
+            this.minDelayNanos = minDelay.toNanos();
+            this.maxDelayNanos = maxDelay.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the sliding window of the latencies.
+         */
+        public Builder window(Duration window) {
+            this.windowNanos = window.toNanos();
+            return this;
+        }
+
+        /**
+         * Limit the hedges with a {@link RetryBudget}.
+         */
+        public Builder budget(RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Set the time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Build the {@link HedgePolicy}.
+         */
+        public HedgePolicy build() {
+            return new HedgePolicy(this);
+        }
+    }
+}
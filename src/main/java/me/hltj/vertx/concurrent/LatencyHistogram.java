@@ -0,0 +1,121 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of the latencies in a sliding time window.
+ * <p>
+ * The latencies are counted in microseconds into log-linear buckets (8 sub-buckets per power of two, so the relative
+ * error of a percentile is below 12.5%). The window is split into slices that are reused round-robin, a slice is
+ * cleared lazily by the first record of a new period, the records that race with the clearing may be lost.
+ * Recording is a single atomic increment.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final long MAX_MICROS = (1L << 40) - 1;
+    private static final int BUCKETS = index(MAX_MICROS) + 1;
+    private static final int SLICES = 4;
+
+    private final long sliceNanos;
+    private final AtomicLong[] epochs = new AtomicLong[SLICES];
+    private final AtomicLongArray[] counts = new AtomicLongArray[SLICES];
+
+    LatencyHistogram(long windowNanos) {
+        this.sliceNanos = Math.max(windowNanos / SLICES, 1);
+        for (int i = 0; i < SLICES; i++) {
+            epochs[i] = new AtomicLong(Long.MIN_VALUE);
+            counts[i] = new AtomicLongArray(BUCKETS);
+        }
+    }
+
+    void record(long latencyNanos, long now) {
+        long epoch = Math.floorDiv(now, sliceNanos);
+        int slice = (int) Math.floorMod(epoch, (long) SLICES);
+        long current = epochs[slice].get();
+        if (current != epoch && epochs[slice].compareAndSet(current, epoch)) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[slice].set(i, 0);
+            }
+        }
+
+        long micros = Math.min(Math.max(latencyNanos / 1000, 0), MAX_MICROS);
+        counts[slice].incrementAndGet(index(micros));
+    }
+
+    /**
+     * Return the {@code p}-th percentile in nanoseconds (the upper bound of its bucket), or -1 if nothing is
+     * recorded in the window.
+     */
+    long percentile(double p, long now) {
+        long epoch = Math.floorDiv(now, sliceNanos);
+        long[] merged = new long[BUCKETS];
+        long total = 0;
+        for (int s = 0; s < SLICES; s++) {
+            long e = epochs[s].get();
+            if (e > epoch - SLICES && e <= epoch) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    long count = counts[s].get(i);
+                    merged[i] += count;
+                    total += count;
+                }
+            }
+        }
+        if (total == 0) {
+            return -1;
+        }
+
+        long rank = Math.max((long) Math.ceil(p * total), 1);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += merged[i];
+            if (cumulative >= rank) {
+                return upperBound(i) * 1000;
+            }
+        }
+        return MAX_MICROS * 1000;
+    }
+
+    static int index(long micros) {
+        if (micros < SUB_COUNT) {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return ((exponent - SUB_BITS + 1) << SUB_BITS) + sub;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+
+        int shift = (index >>> SUB_BITS) - 1;
+        long lower = (long) (SUB_COUNT + (index & (SUB_COUNT - 1))) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
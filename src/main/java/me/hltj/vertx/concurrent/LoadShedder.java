@@ -0,0 +1,203 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.Failures;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * An admission control that sheds new calls while the event loop lags behind or too many calls are pending.
+ * <p>
+ * A probe timer is re-armed every {@code probeInterval} on the event loop of the context it is built on (or an event
+ * loop of the {@link Vertx} if there is none), and the lag is how much later than {@code probeInterval} it fires.
+ * While the last measured lag exceeds {@code maxLag} or {@code maxPending} calls are pending, a call is rejected with
+ * a {@code Future} failed with a {@link RejectedException}, which is preallocated in the {@link Failures.Mode#DEFAULT}
+ * and the {@link Failures.Mode#SHARED} modes so that shedding allocates nothing.
+ * The lag and the pending count are read and updated with atomic operations only.
+ *
+ * @since 1.2.0
+ */
+public final class LoadShedder {
+    private final Vertx vertx;
+    private final long probeMillis;
+    private final long maxLagNanos;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final RejectedException rejected = new RejectedException("load shed");
+    private final Future<?> shed = Future.failedFuture(rejected);
+
+    private volatile long lagNanos;
+    private volatile long timerId;
+    private volatile boolean closed;
+    private long probedAt;
+
+    private LoadShedder(Builder builder) {
+        this.vertx = builder.vertx;
+        this.probeMillis = builder.probeMillis;
+        this.maxLagNanos = builder.maxLagNanos;
+        this.maxPending = builder.maxPending;
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link LoadShedder} probing the event loop with the timers of {@code vertx},
+     * by default it probes every 100 milliseconds, sheds at a lag beyond 100 milliseconds and does not limit
+     * the pending calls.
+     */
+    public static Builder builder(Vertx vertx) {
+        return new Builder(vertx);
+    }
+
+    /**
+     * Call the {@code supplier} unless the load is shed.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does. If the load is shed,
+     * the {@code supplier} is not called and a {@code Future} failed with a {@link RejectedException} is returned.
+     *
+     * @param supplier the supplier to make the call
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> execute(Supplier<Future<T>> supplier) {
+        if (!tryAcquire()) {
+            Failures.Mode mode = Failures.getMode();
+            return mode == Failures.Mode.DEFAULT || mode == Failures.Mode.SHARED ? (Future<T>) shed
+                    : Future.failedFuture(RejectedException.of(rejected));
+        }
+        return FutureUtils.joinWrap(supplier).onComplete(ar -> pending.decrementAndGet());
+    }
+
+    /**
+     * Return the event-loop lag measured by the last probe.
+     */
+    public Duration lag() {
+        return Duration.ofNanos(lagNanos);
+    }
+
+    /**
+     * Return the number of the pending calls.
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Stop probing the event loop, the last measured lag is kept.
+     */
+    public void close() {
+        closed = true;
+        vertx.cancelTimer(timerId);
+    }
+
+    private boolean tryAcquire() {
+        if (lagNanos > maxLagNanos) {
+            return false;
+        }
+
+        int current;
+        do {
+            current = pending.get();
+            if (current >= maxPending) {
+                return false;
+            }
+        } while (!pending.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void start() {
+        probedAt = System.nanoTime();
+        timerId = vertx.setTimer(probeMillis, id -> probe());
+    }
+
+    private void probe() {
+        long now = System.nanoTime();
+        lagNanos = Math.max(now - probedAt - TimeUnit.MILLISECONDS.toNanos(probeMillis), 0);
+        if (!closed) {
+            start();
+        }
+    }
+
+    /**
+     * The builder of {@link LoadShedder}.
+     */
+    public static final class Builder {
+        private final Vertx vertx;
+        private long probeMillis = 100;
+        private long maxLagNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private int maxPending = Integer.MAX_VALUE;
+
+        private Builder(Vertx vertx) {
+            this.vertx = vertx;
+        }
+
+        /**
+         * Set the interval of the probe timer.
+         *
+         * @throws IllegalArgumentException if {@code probeInterval} is shorter than 1 millisecond
+         */
+        public Builder probeInterval(Duration probeInterval) {
+            if (probeInterval.toMillis() < 1) {
+                throw new IllegalArgumentException("probeInterval must be at least 1 ms: " + probeInterval);
+            }
+            this.probeMillis = probeInterval.toMillis();
+            return this;
+        }
+
+        /**
+         * Set the event-loop lag beyond which the calls are shed.
+         */
+        public Builder maxLag(Duration maxLag) {
+            this.maxLagNanos = maxLag.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the number of the pending calls at which the calls are shed.
+         *
+         * @throws IllegalArgumentException if {@code maxPending} is not positive
+         */
+        public Builder maxPending(int maxPending) {
+            if (maxPending <= 0) {
+                throw new IllegalArgumentException("maxPending must be positive: " + maxPending);
+            }
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * Build the {@link LoadShedder} and start probing.
+         */
+        public LoadShedder build() {
+            LoadShedder shedder = new LoadShedder(this);
+            shedder.start();
+            return shedder;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A scheduler that runs deferred {@code Future}-producing tasks under a shared concurrency limit, the highest priority
+ * first.
+ * <p>
+ * A task that can't start at once waits in a bounded queue, ordered by its priority aged by its waiting time: each
+ * {@code agingInterval} of waiting counts as one more priority level, so the low-priority tasks are not starved.
+ * The aging is applied by ordering the tasks by {@code enqueueTime - priority * agingInterval}, which never changes
+ * while a task waits, and the tasks of the same order run in FIFO. All the operations are thread-safe, only one thread
+ * starts the queued tasks at a time, and completions that arrive meanwhile are picked up by that thread before it
+ * leaves.
+ *
+ * @since 1.2.0
+ */
+public final class PriorityScheduler {
+    private final int maxQueued;
+    private final long agingNanos;
+    private final LongSupplier ticker;
+    private final long startNanos;
+    private final PriorityQueue<Task> queue = new PriorityQueue<>();
+    private final RejectedException rejected = new RejectedException("too many queued tasks");
+
+    private int available;
+    private long sequence;
+    private boolean draining;
+
+    private PriorityScheduler(Builder builder) {
+        this.available = builder.maxConcurrency;
+        this.maxQueued = builder.maxQueued;
+        this.agingNanos = builder.agingNanos;
+        this.ticker = builder.ticker;
+        this.startNanos = ticker.getAsLong();
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link PriorityScheduler}, by default it runs 16 tasks at once, queues up to
+     * 1000 tasks and ages a waiting task by one priority level per second.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Run the {@code supplier} once it is the turn of its {@code priority}, the greater the earlier.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does, the concurrency slot is released
+     * when the returned {@link Future} completes.
+     *
+     * @param priority the priority
+     * @param supplier the supplier to start the task
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the {@code Future}, or a failed one with a {@link RejectedException} if the queue is full
+     */
+    public <T> Future<T> submit(int priority, Supplier<Future<T>> supplier) {
+        Promise<T> promise;
+        synchronized (this) {
+            if (available > 0 && queue.isEmpty()) {
+                available--;
+                promise = null;
+            } else if (queue.size() < maxQueued) {
+                promise = Promise.promise();
+                long boost = (long) Math.max(Math.min((double) priority * agingNanos, Long.MAX_VALUE / 2.0),
+                        Long.MIN_VALUE / 2.0);
+                queue.add(new Task(ticker.getAsLong() - startNanos - boost, sequence++,
+                        () -> run(supplier).onComplete(promise)));
+            } else {
+                return Future.failedFuture(RejectedException.of(rejected));
+            }
+        }
+
+        if (promise == null) {
+            return run(supplier);
+        }
+        drain();
+        return promise.future();
+    }
+
+    /**
+     * Return the number of the free concurrency slots.
+     */
+    public synchronized int available() {
+        return available;
+    }
+
+    /**
+     * Return the number of the queued tasks.
+     */
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    private <T> Future<T> run(Supplier<Future<T>> supplier) {
+        return FutureUtils.joinWrap(supplier).onComplete(ar -> release());
+    }
+
+    private void release() {
+        synchronized (this) {
+            available++;
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (true) {
+            Task task;
+            synchronized (this) {
+                if (draining || available == 0 || queue.isEmpty()) {
+                    return;
+                }
+                draining = true;
+                available--;
+                task = queue.poll();
+            }
+
+            try {
+                task.action.run();
+            } finally {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+    }
+
+    private static final class Task implements Comparable<Task> {
+        private final long order;
+        private final long sequence;
+        private final Runnable action;
+
+        private Task(long order, long sequence, Runnable action) {
+            this.order = order;
+            this.sequence = sequence;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int result = Long.compare(order, other.order);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * The builder of {@link PriorityScheduler}.
+     */
+    public static final class Builder {
+        private int maxConcurrency = 16;
+        private int maxQueued = 1000;
+        private long agingNanos = TimeUnit.SECONDS.toNanos(1);
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of the tasks running at once.
+         *
+         * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of the queued tasks.
+         *
+         * @throws IllegalArgumentException if {@code maxQueued} is negative
+         */
+        public Builder maxQueued(int maxQueued) {
+            if (maxQueued < 0) {
+                throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+            }
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Set the waiting time that counts as one priority level.
+         */
+        public Builder agingInterval(Duration agingInterval) {
+            this.agingNanos = agingInterval.toNanos();
+            return this;
+        }
+
+        /**
+         * Set the time source in nanoseconds, {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Build the {@link PriorityScheduler}.
+         */
+        public PriorityScheduler build() {
+            return new PriorityScheduler(this);
+        }
+    }
+}
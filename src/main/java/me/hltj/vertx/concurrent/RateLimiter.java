@@ -0,0 +1,244 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.*;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * A token bucket that limits the rate of callback style calls, such as the ones to a third-party API under a quota.
+ * <p>
+ * The bucket holds up to {@code burst} tokens and is refilled with {@code permits} tokens every {@code period} by
+ * a Vert.x periodic timer, which runs only while the bucket is not full. The timer is always set on the context the
+ * limiter is built on, not on the context of a caller, so undeploying the verticle of a caller does not stop the
+ * refill. Build a limiter shared by several verticles outside any Vert.x context (e.g. before deploying them), which
+ * gives it a context of its own. Each call takes a token, {@link #futurize(Consumer)} waits for one in a bounded FIFO
+ * queue while {@link #tryFuturize(Consumer)} fails fast. A queued call is made on the Vert.x context it is queued on,
+ * or on the context of the timer if there is none. All the operations are thread-safe.
+ *
+ * @since 1.2.0
+ */
+public final class RateLimiter {
+    private final Vertx vertx;
+    private final Context context;
+    private final int permits;
+    private final long periodMillis;
+    private final int burst;
+    private final int maxQueued;
+    private final Queue<Runnable> waiters = new ArrayDeque<>();
+    private final RejectedException rejected = new RejectedException("rate limit exceeded");
+
+    private int tokens;
+    private boolean ticking;
+    private long timerId;
+
+    private RateLimiter(Builder builder) {
+        this.vertx = builder.vertx;
+        this.context = vertx.getOrCreateContext();
+        this.permits = builder.permits;
+        this.periodMillis = builder.periodMillis;
+        this.burst = builder.burst < 0 ? builder.permits : builder.burst;
+        this.maxQueued = builder.maxQueued;
+        this.tokens = burst;
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link RateLimiter} driven by the timers of {@code vertx}, by default it permits
+     * 10 calls per second with a burst of 10, and queues up to 1000 calls.
+     */
+    public static Builder builder(Vertx vertx) {
+        return new Builder(vertx);
+    }
+
+    /**
+     * Make a callback style call once a token is available, and convert it to {@link Future} result style
+     * as {@link FutureUtils#futurize(Consumer)} does.
+     * <p>
+     * If the queue is full, the call is not made and the returned {@code Future} fails with
+     * a {@link RejectedException}. A queued call that throws fails the returned {@code Future}.
+     *
+     * @param consumer callback style Vert.x call
+     * @param <T>      the type parameter of the {@code AsyncResult}
+     * @return the {@code Future}
+     */
+    public <T> Future<T> futurize(Consumer<Handler<AsyncResult<T>>> consumer) {
+        synchronized (this) {
+            if (tokens == 0 || !waiters.isEmpty()) {
+                if (waiters.size() >= maxQueued) {
+                    return Future.failedFuture(RejectedException.of(rejected));
+                }
+
+                Promise<T> promise = Promise.promise();
+                waiters.add(queued(consumer, promise));
+                return promise.future();
+            }
+            acquire();
+        }
+        return FutureUtils.futurize(consumer);
+    }
+
+    /**
+     * Make a callback style call if a token is available now, and convert it to {@link Future} result style
+     * as {@link FutureUtils#futurize(Consumer)} does.
+     * <p>
+     * If no token is available, the call is not made and the returned {@code Future} fails with
+     * a {@link RejectedException}.
+     *
+     * @param consumer callback style Vert.x call
+     * @param <T>      the type parameter of the {@code AsyncResult}
+     * @return the {@code Future}
+     */
+    public <T> Future<T> tryFuturize(Consumer<Handler<AsyncResult<T>>> consumer) {
+        synchronized (this) {
+            if (tokens == 0 || !waiters.isEmpty()) {
+                return Future.failedFuture(RejectedException.of(rejected));
+            }
+            acquire();
+        }
+        return FutureUtils.futurize(consumer);
+    }
+
+    /**
+     * Return the number of the available tokens.
+     */
+    public synchronized int available() {
+        return tokens;
+    }
+
+    /**
+     * Return the number of the calls waiting for a token.
+     */
+    public synchronized int queued() {
+        return waiters.size();
+    }
+
+    private static <T> Runnable queued(Consumer<Handler<AsyncResult<T>>> consumer, Promise<T> promise) {
+        Context context = Vertx.currentContext();
+        Runnable call = () -> {
+            try {
+                consumer.accept(promise);
+            } catch (RuntimeException e) {
+                promise.tryFail(e);
+            }
+        };
+        return context == null ? call : () -> context.runOnContext(v -> call.run());
+    }
+
+    private void acquire() {
+        tokens--;
+        if (!ticking) {
+            ticking = true;
+            context.runOnContext(v -> timerId = vertx.setPeriodic(periodMillis, id -> refill()));
+        }
+    }
+
+    private void refill() {
+        List<Runnable> ready = new ArrayList<>();
+        synchronized (this) {
+            tokens = Math.min(tokens + permits, burst);
+            while (tokens > 0 && !waiters.isEmpty()) {
+                tokens--;
+                ready.add(waiters.poll());
+            }
+            if (tokens == burst) {
+                vertx.cancelTimer(timerId);
+                ticking = false;
+            }
+        }
+
+        for (Runnable waiter : ready) {
+            waiter.run();
+        }
+    }
+
+    /**
+     * The builder of {@link RateLimiter}.
+     */
+    public static final class Builder {
+        private final Vertx vertx;
+        private int permits = 10;
+        private long periodMillis = 1000;
+        private int burst = -1;
+        private int maxQueued = 1000;
+
+        private Builder(Vertx vertx) {
+            this.vertx = vertx;
+        }
+
+        /**
+         * Set the number of tokens refilled every {@code period}, a shorter period makes the calls smoother.
+         *
+         * @throws IllegalArgumentException if {@code permits} is not positive or {@code period} is shorter than
+         *                                  1 millisecond
+         */
+        public Builder limitForPeriod(int permits, Duration period) {
+            if (permits <= 0 || period.toMillis() < 1) {
+                throw new IllegalArgumentException("invalid limit: " + permits + " per " + period);
+            }
+            this.permits = permits;
+            this.periodMillis = period.toMillis();
+            return this;
+        }
+
+        /**
+         * Set the capacity of the bucket, also the initial number of tokens, {@code permits} by default.
+         *
+         * @throws IllegalArgumentException if {@code burst} is not positive
+         */
+        public Builder burst(int burst) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("burst must be positive: " + burst);
+            }
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of the calls waiting for a token, {@code 0} makes
+         * {@link RateLimiter#futurize(Consumer)} fail fast too.
+         *
+         * @throws IllegalArgumentException if {@code maxQueued} is negative
+         */
+        public Builder maxQueued(int maxQueued) {
+            if (maxQueued < 0) {
+                throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+            }
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Build the {@link RateLimiter}.
+         */
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
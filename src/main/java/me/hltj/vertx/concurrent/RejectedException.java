@@ -0,0 +1,61 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import me.hltj.vertx.future.Failures;
+
+/**
+ * The failure of a call rejected by a limiter such as {@link AsyncSemaphore}, {@link AdaptiveLimiter},
+ * {@link RateLimiter} or {@link LoadShedder}.
+ * <p>
+ * It is created as the {@link Failures.Mode} says, in the {@link Failures.Mode#DEFAULT} and the
+ * {@link Failures.Mode#SHARED} modes it is created once per limiter without a stack trace.
+ *
+ * @since 1.2.0
+ */
+public final class RejectedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    RejectedException(String message) {
+        this(message, false);
+    }
+
+    private RejectedException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Return the {@code shared} one or a new one with the same message, as the {@link Failures.Mode} says.
+     */
+    static RejectedException of(RejectedException shared) {
+        switch (Failures.getMode()) {
+            case DEFAULT:
+            case SHARED:
+                return shared;
+            case STACKLESS:
+                return new RejectedException(shared.getMessage(), false);
+            default:
+                return new RejectedException(shared.getMessage(), true);
+        }
+    }
+}
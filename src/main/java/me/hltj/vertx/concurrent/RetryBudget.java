@@ -0,0 +1,102 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket that limits the retries shared by all the callers of the {@link RetryPolicy}s it is set to.
+ * <p>
+ * Each call deposits {@code tokenRatio} of a token and each retry withdraws a whole token, so the retries are bounded
+ * to about {@code tokenRatio} of the calls in the long run, plus a burst of {@code maxTokens}. During an outage the
+ * bucket runs dry and the failures are propagated without retry instead of amplifying the load.
+ * All the operations are thread-safe and lock-free.
+ *
+ * @since 1.2.0
+ */
+public final class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long capacity;
+    private final long deposit;
+    private final AtomicLong balance;
+
+    private RetryBudget(long capacity, long deposit) {
+        this.capacity = capacity;
+        this.deposit = deposit;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Create a full {@link RetryBudget}.
+     *
+     * @param maxTokens  the maximum number of tokens, also the initial number
+     * @param tokenRatio the fraction of a token deposited by each call
+     * @return the {@code RetryBudget}
+     * @throws IllegalArgumentException if {@code maxTokens} is not positive or {@code tokenRatio} is negative
+     */
+    public static RetryBudget create(int maxTokens, double tokenRatio) {
+        if (maxTokens <= 0 || !(tokenRatio >= 0)) {
+            throw new IllegalArgumentException(
+                    "maxTokens must be positive and tokenRatio must not be negative: " + maxTokens + ", " + tokenRatio
+            );
+        }
+        return new RetryBudget(maxTokens * SCALE, Math.round(tokenRatio * SCALE));
+    }
+
+    /**
+     * Deposit {@code tokenRatio} of a token for a call, up to {@code maxTokens}.
+     */
+    public void deposit() {
+        long current;
+        do {
+            current = balance.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!balance.compareAndSet(current, Math.min(current + deposit, capacity)));
+    }
+
+    /**
+     * Withdraw a token for a retry.
+     *
+     * @return {@code true} if the retry is allowed
+     */
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Return the number of the whole tokens available.
+     */
+    public int available() {
+        return (int) (balance.get() / SCALE);
+    }
+}
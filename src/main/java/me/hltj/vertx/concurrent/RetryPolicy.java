@@ -0,0 +1,243 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A policy to retry the failed {@link Future}s, used by {@link FutureUtils#retry(Supplier, RetryPolicy)}.
+ * <p>
+ * A failure is retried while the attempts are below {@code maxAttempts}, the failure matches the {@code retryOn}
+ * predicate and the {@link RetryBudget} (if any) allows it. The n-th retry is delayed by
+ * {@code min(maxDelay, initialDelay * multiplier^(n-1))}, with full jitter (a random delay between zero and that)
+ * by default, and at least 1 millisecond once the {@code initialDelay} is positive. The delays are driven by Vert.x
+ * timers on the context where the retry starts.
+ * <p>
+ * A policy is immutable and can be shared by all the callers, so is its budget.
+ *
+ * @since 1.2.0
+ */
+public final class RetryPolicy {
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final boolean jitter;
+    private final Predicate<Throwable> retryOn;
+    private final RetryBudget budget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelayNanos;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryOn = builder.retryOn;
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Create a {@link Builder} of the {@link RetryPolicy}, by default it makes at most 3 attempts without delay and
+     * retries all the failures.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Call the {@code supplier} and retry it on failure as the policy allows.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does, so a non-checked exception it
+     * throws is a failure too. The returned {@code Future} fails with the cause of the last attempt, or with the
+     * exception thrown by the {@code retryOn} predicate, which has that cause added as suppressed unless it is the
+     * cause itself. If the retries
+     * are delayed and it is not called on a Vert.x context, there is no timer to drive them, and a {@code Future}
+     * failed with {@link IllegalStateException} is returned without calling the {@code supplier}.
+     *
+     * @param supplier the supplier to start an attempt
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     */
+    public <T> Future<T> execute(Supplier<Future<T>> supplier) {
+        Context context = Vertx.currentContext();
+        if (context == null && initialDelayNanos > 0) {
+            return Future.failedFuture(
+                    new IllegalStateException("delayed retries must be started on a Vert.x context")
+            );
+        }
+
+        if (budget != null) {
+            budget.deposit();
+        }
+        Promise<T> promise = Promise.promise();
+        attempt(supplier, context, 1, promise);
+        return promise.future();
+    }
+
+    @SuppressWarnings("java:S1181")
+    private <T> void attempt(Supplier<Future<T>> supplier, Context context, int attempt, Promise<T> promise) {
+        FutureUtils.joinWrap(supplier).onComplete(ar -> {
+            if (ar.succeeded()) {
+                promise.complete(ar.result());
+                return;
+            }
+
+            boolean retryable;
+            try {
+                retryable = retryOn.test(ar.cause());
+            } catch (Throwable t) {
+                if (t != ar.cause()) {
+                    t.addSuppressed(ar.cause());
+                }
+                promise.fail(t);
+                return;
+            }
+
+            if (attempt >= maxAttempts || !retryable || (budget != null && !budget.tryWithdraw())) {
+                promise.fail(ar.cause());
+                return;
+            }
+
+            long delayMillis = delayMillis(attempt);
+            if (delayMillis <= 0) {
+                attempt(supplier, context, attempt + 1, promise);
+            } else {
+                context.runOnContext(v -> context.owner().setTimer(delayMillis, id ->
+                        attempt(supplier, context, attempt + 1, promise)
+                ));
+            }
+        });
+    }
+
+    // a delayed retry waits at least 1 ms even if the jitter picks less, so it never runs synchronously
+    private long delayMillis(int attempt) {
+        if (initialDelayNanos <= 0) {
+            return 0;
+        }
+
+        double delay = Math.min(initialDelayNanos * Math.pow(multiplier, attempt - 1.0), maxDelayNanos);
+        long delayNanos = jitter ? (long) (ThreadLocalRandom.current().nextDouble() * delay) : (long) delay;
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(delayNanos), 1);
+    }
+
+    /**
+     * The builder of {@link RetryPolicy}.
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private long initialDelayNanos;
+        private long maxDelayNanos;
+        private double multiplier = 2;
+        private boolean jitter = true;
+        private Predicate<Throwable> retryOn = t -> true;
+        private RetryBudget budget;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of attempts, including the first one.
+         *
+         * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Delay the retries with exponential backoff, the delay starts from {@code initialDelay} and doubles on each
+         * retry, up to {@code maxDelay}.
+         */
+        public Builder exponentialBackoff(Duration initialDelay, Duration maxDelay) {
+            return exponentialBackoff(initialDelay, maxDelay, 2);
+        }
+
+        /**
+         * Delay the retries with exponential backoff, the delay starts from {@code initialDelay} and is multiplied by
+         * {@code multiplier} on each retry, up to {@code maxDelay}.
+         *
+         * @throws IllegalArgumentException if {@code multiplier} is less than 1
+         */
+        public Builder exponentialBackoff(Duration initialDelay, Duration maxDelay, double multiplier) {
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("multiplier must not be less than 1: " + multiplier);
+            }
+            this.initialDelayNanos = initialDelay.toNanos();
+            this.maxDelayNanos = maxDelay.toNanos();
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Set whether to apply full jitter to the backoff delays, {@code true} by default.
+         */
+        public Builder jitter(boolean jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Only retry the failures that match the {@code predicate}.
+         */
+        public Builder retryOn(Predicate<Throwable> predicate) {
+            this.retryOn = predicate;
+            return this;
+        }
+
+        /**
+         * Only retry the failures that are instances of the {@code type}.
+         */
+        public Builder retryOn(Class<? extends Throwable> type) {
+            return retryOn(type::isInstance);
+        }
+
+        /**
+         * Limit the retries with a {@link RetryBudget}, which is usually shared by the policies of a backend.
+         */
+        public Builder budget(RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Build the {@link RetryPolicy}.
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
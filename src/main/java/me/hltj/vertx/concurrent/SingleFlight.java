@@ -0,0 +1,119 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import me.hltj.vertx.FutureUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicate the in-flight {@link Future}s by key.
+ * <p>
+ * While a {@code Future} for a key is uncompleted, {@link #execute(Object, Function)} with the same key returns it
+ * instead of starting a new one. The entry is removed before the {@code Future} completes, so a call made on
+ * completion starts a new one.
+ * <p>
+ * The one created by {@link #create()} is backed by a {@link ConcurrentHashMap} and can be shared by several event
+ * loops, the one created by {@link #confined()} is backed by a {@link HashMap} without any contention, but it must be
+ * used on a single thread (e.g. an event loop) and the {@code Future}s must complete on that thread too.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type parameter of the {@code Future}s
+ * @since 1.2.0
+ */
+public final class SingleFlight<K, V> {
+    private final Map<K, Future<V>> inFlight;
+
+    private SingleFlight(Map<K, Future<V>> inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * Create a thread-safe {@link SingleFlight}.
+     */
+    public static <K, V> SingleFlight<K, V> create() {
+        return new SingleFlight<>(new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Create a {@link SingleFlight} confined to a single thread.
+     */
+    public static <K, V> SingleFlight<K, V> confined() {
+        return new SingleFlight<>(new HashMap<>());
+    }
+
+    /**
+     * Return the in-flight {@link Future} for the {@code key}, or start a new one with the {@code supplier}.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does.
+     *
+     * @param key      the key
+     * @param supplier the supplier to start a new {@code Future}
+     * @return the in-flight {@code Future}
+     */
+    public Future<V> execute(K key, Supplier<Future<V>> supplier) {
+        return execute(key, k -> supplier.get());
+    }
+
+    /**
+     * Return the in-flight {@link Future} for the {@code key}, or start a new one with the {@code function}.
+     * <p>
+     * The {@code function} is applied to the {@code key} as {@link FutureUtils#joinWrap(Object, Function)} does.
+     *
+     * @param key      the key
+     * @param function the function to start a new {@code Future}
+     * @return the in-flight {@code Future}
+     */
+    public Future<V> execute(K key, Function<K, Future<V>> function) {
+        Future<V> existing = inFlight.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        Promise<V> promise = Promise.promise();
+        Future<V> future = promise.future();
+        existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        FutureUtils.joinWrap(key, function).onComplete(ar -> {
+            inFlight.remove(key, future);
+            promise.handle(ar);
+        });
+        return future;
+    }
+
+    /**
+     * Return the number of the in-flight keys.
+     */
+    public int size() {
+        return inFlight.size();
+    }
+}
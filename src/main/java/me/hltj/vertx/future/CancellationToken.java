@@ -0,0 +1,114 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Handler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A token shared by sibling asynchronous operations to signal that their results are no longer needed.
+ * <p>
+ * The token is tripped at most once, by the first {@link #cancel(Throwable)}, and then runs the handlers registered
+ * with {@link #onCancel(Handler)}. A producer such as an HTTP request or a timer can register a handler to abort
+ * itself, or check {@link #isCancelled()} before starting an expensive step. All the operations are thread-safe.
+ *
+ * @since 1.2.0
+ */
+public final class CancellationToken {
+    private final AtomicReference<Throwable> cause = new AtomicReference<>();
+    private final Queue<Handler<Throwable>> handlers = new ConcurrentLinkedQueue<>();
+
+    private CancellationToken() {
+    }
+
+    /**
+     * Create a {@link CancellationToken} that is not cancelled.
+     */
+    public static CancellationToken create() {
+        return new CancellationToken();
+    }
+
+    /**
+     * Cancel the token with a {@code cause} and run the registered handlers with it.
+     *
+     * @param cause the cause of the cancellation
+     * @return {@code true} if the token is cancelled by this call, {@code false} if it has been cancelled already
+     */
+    public boolean cancel(Throwable cause) {
+        if (!this.cause.compareAndSet(null, cause)) {
+            return false;
+        }
+
+        runHandlers();
+        return true;
+    }
+
+    /**
+     * Return whether the token is cancelled.
+     */
+    public boolean isCancelled() {
+        return cause.get() != null;
+    }
+
+    /**
+     * Return the cause of the cancellation, or {@code null} if the token is not cancelled.
+     */
+    public Throwable cause() {
+        return cause.get();
+    }
+
+    /**
+     * Register a {@code handler} that takes the cause of the cancellation, it runs immediately if the token has been
+     * cancelled already. Each handler runs exactly once.
+     *
+     * @param handler the handler
+     * @return a reference to this, so the API can be used fluently
+     */
+    public CancellationToken onCancel(Handler<Throwable> handler) {
+        handlers.add(handler);
+        if (isCancelled()) {
+            runHandlers();
+        }
+        return this;
+    }
+
+    private void runHandlers() {
+        RuntimeException exception = null;
+        for (Handler<Throwable> handler = handlers.poll(); handler != null; handler = handlers.poll()) {
+            try {
+                handler.handle(cause.get());
+            } catch (RuntimeException e) {
+                if (exception == null) {
+                    exception = e;
+                }
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.streams.ReadStream;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * A {@link ReadStream} that emits the results of {@link Future}s in the order of their completion.
+ * <p>
+ * The {@code Future}s are pulled lazily from an {@link Iterable} once a {@link #handler(Handler)} is set, at most
+ * {@code window} of them are pulled but not emitted yet, so a paused stream stops pulling more {@code Future}s when
+ * the window is full. Pass {@code stream::iterator} to use a {@link java.util.stream.Stream} of {@code Future}s.
+ * <p>
+ * A succeeded {@code Future} emits its result to the {@link #handler(Handler)} and consumes one unit of the demand,
+ * a failed {@code Future} emits its cause to the {@link #exceptionHandler(Handler)} without consuming the demand,
+ * the stream ends after all the {@code Future}s are emitted.
+ * <p>
+ * If the stream is created on a Vert.x {@link Context}, the handlers are always called on that context.
+ *
+ * @param <T> the type parameter of the {@code Future}s
+ * @since 1.2.0
+ */
+public final class CompletionStream<T> implements ReadStream<T> {
+    private final Iterator<Future<T>> iterator;
+    private final int window;
+    private final Context context;
+    private final ArrayDeque<AsyncResult<T>> buffer = new ArrayDeque<>();
+
+    private Handler<T> handler;
+    private Handler<Throwable> exceptionHandler;
+    private Handler<Void> endHandler;
+    private long demand = Long.MAX_VALUE;
+    private int pulled;
+    private boolean exhausted;
+    private boolean ended;
+    private boolean emitting;
+    private boolean missed;
+
+    private CompletionStream(Iterable<Future<T>> futures, int window) {
+        this.iterator = futures.iterator();
+        this.window = window;
+        this.context = Vertx.currentContext();
+    }
+
+    /**
+     * Create a {@link CompletionStream} that pulls all the {@link Future}s as soon as a handler is set.
+     *
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the {@code CompletionStream}
+     */
+    public static <T> CompletionStream<T> of(Iterable<Future<T>> futures) {
+        return new CompletionStream<>(futures, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a {@link CompletionStream} that keeps at most {@code window} {@link Future}s pulled but not emitted.
+     *
+     * @param futures the {@code Future}s
+     * @param window  the maximum number of {@code Future}s pulled but not emitted
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the {@code CompletionStream}
+     * @throws IllegalArgumentException if {@code window} is not positive
+     */
+    public static <T> CompletionStream<T> of(Iterable<Future<T>> futures, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        return new CompletionStream<>(futures, window);
+    }
+
+    @Override
+    public synchronized CompletionStream<T> exceptionHandler(Handler<Throwable> handler) {
+        exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public CompletionStream<T> handler(Handler<T> handler) {
+        synchronized (this) {
+            this.handler = handler;
+        }
+        drain();
+        return this;
+    }
+
+    @Override
+    public CompletionStream<T> pause() {
+        synchronized (this) {
+            demand = 0;
+        }
+        return this;
+    }
+
+    @Override
+    public CompletionStream<T> resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public CompletionStream<T> fetch(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("amount must not be negative: " + amount);
+        }
+        synchronized (this) {
+            demand += amount;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+        }
+        drain();
+        return this;
+    }
+
+    @Override
+    public synchronized CompletionStream<T> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    /**
+     * Return the number of completed {@link Future}s waiting to be emitted.
+     */
+    public synchronized int buffered() {
+        return buffer.size();
+    }
+
+    private void onComplete(AsyncResult<T> ar) {
+        synchronized (this) {
+            buffer.add(ar);
+        }
+        drain();
+    }
+
+    private boolean hasMore() {
+        if (!exhausted && !iterator.hasNext()) {
+            exhausted = true;
+        }
+        return !exhausted;
+    }
+
+    private void drain() {
+        if (context != null && Vertx.currentContext() != context) {
+            context.runOnContext(v -> drain());
+            return;
+        }
+
+        synchronized (this) {
+            if (emitting) {
+                missed = true;
+                return;
+            }
+            emitting = true;
+        }
+
+        try {
+            emit();
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                emitting = false;
+            }
+            throw e;
+        }
+    }
+
+    private void emit() {
+        while (true) {
+            Future<T> future = null;
+            AsyncResult<T> result = null;
+            Handler<T> dataHandler;
+            Handler<Throwable> failureHandler;
+            Handler<Void> onEnd = null;
+            synchronized (this) {
+                dataHandler = handler;
+                failureHandler = exceptionHandler;
+                if (dataHandler != null && pulled < window && hasMore()) {
+                    future = iterator.next();
+                    pulled++;
+                } else if (dataHandler != null && !buffer.isEmpty() && (demand > 0 || buffer.peek().failed())) {
+                    result = buffer.poll();
+                    pulled--;
+                    if (result.succeeded() && demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                } else if (dataHandler != null && !ended && pulled == 0 && !hasMore()) {
+                    ended = true;
+                    onEnd = endHandler;
+                } else if (missed) {
+                    missed = false;
+                    continue;
+                } else {
+                    emitting = false;
+                    return;
+                }
+            }
+
+            if (future != null) {
+                future.onComplete(this::onComplete);
+            } else if (result == null) {
+                if (onEnd != null) {
+                    onEnd.handle(null);
+                }
+            } else if (result.succeeded()) {
+                dataHandler.handle(result.result());
+            } else if (failureHandler != null) {
+                failureHandler.handle(result.cause());
+            }
+        }
+    }
+}
@@ -137,7 +137,7 @@ public final class CompositeFutureTuple2<T0, T1> extends CompositeFutureWrapper
      * @return the result {@code Future}
      */
     public <R> Future<R> through(BiFunction<Future<T0>, Future<T1>, R> function2) {
-        return joinThrough(function2.andThen(Future::succeededFuture));
+        return joinThrough(function2.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -210,12 +210,17 @@ public final class CompositeFutureTuple2<T0, T1> extends CompositeFutureWrapper
      * When the composite future succeeds, the function will be called. If the function throws a non-checked exception,
      * the returned future will be failed with this exception. Otherwise, the returned future will be the function
      * returned future.
+     * <p>
+     * The function will not be called either if the {@link Deadline} of the current Vert.x context is exceeded,
+     * the returned future will be failed with a {@link DeadlineExceededException} instead.
      *
      * @param function2 the function
      * @param <R>       the result type of {@code function2}
      * @return the result {@code Future}
      */
     public <R> Future<R> joinApplift(BiFunction<T0, T1, Future<R>> function2) {
-        return composite.flatMap(future -> function2.apply(composite.resultAt(0), composite.resultAt(1)));
+        return composite.flatMap(future -> Deadline.check(() ->
+                function2.apply(composite.resultAt(0), composite.resultAt(1))
+        ));
     }
 }
@@ -111,7 +111,7 @@ public final class CompositeFutureTuple3<T0, T1, T2> extends CompositeFutureWrap
      * It likes {@link CompositeFutureTuple2#through(BiFunction)} but with 3-arity.
      */
     public <R> Future<R> through(Function3<Future<T0>, Future<T1>, Future<T2>, R> function3) {
-        return joinThrough(function3.andThen(Future::succeededFuture));
+        return joinThrough(function3.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -167,8 +167,8 @@ public final class CompositeFutureTuple3<T0, T1, T2> extends CompositeFutureWrap
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 3-arity.
      */
     public <R> Future<R> joinApplift(Function3<T0, T1, T2, Future<R>> function3) {
-        return composite.flatMap(future -> function3.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function3.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2)
-        ));
+        )));
     }
 }
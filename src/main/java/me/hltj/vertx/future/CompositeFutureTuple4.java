@@ -110,7 +110,7 @@ public final class CompositeFutureTuple4<T0, T1, T2, T3> extends CompositeFuture
      * It likes {@link CompositeFutureTuple2#through(BiFunction)} but with 4-arity.
      */
     public <R> Future<R> through(Function4<Future<T0>, Future<T1>, Future<T2>, Future<T3>, R> function4) {
-        return joinThrough(function4.andThen(Future::succeededFuture));
+        return joinThrough(function4.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -168,8 +168,8 @@ public final class CompositeFutureTuple4<T0, T1, T2, T3> extends CompositeFuture
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 4-arity.
      */
     public <R> Future<R> joinApplift(Function4<T0, T1, T2, T3, Future<R>> function4) {
-        return composite.flatMap(future -> function4.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function4.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3)
-        ));
+        )));
     }
 }
@@ -116,7 +116,7 @@ public final class CompositeFutureTuple5<T0, T1, T2, T3, T4> extends CompositeFu
      * It likes {@link CompositeFutureTuple2#through(BiFunction)} but with 5-arity.
      */
     public <R> Future<R> through(Function5<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, R> function5) {
-        return joinThrough(function5.andThen(Future::succeededFuture));
+        return joinThrough(function5.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -179,9 +179,9 @@ public final class CompositeFutureTuple5<T0, T1, T2, T3, T4> extends CompositeFu
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 5-arity.
      */
     public <R> Future<R> joinApplift(Function5<T0, T1, T2, T3, T4, Future<R>> function5) {
-        return composite.flatMap(future -> function5.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function5.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4)
-        ));
+        )));
     }
 }
@@ -130,7 +130,7 @@ public final class CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> extends Composi
     public <R> Future<R> through(
             Function6<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, Future<T5>, R> function6
     ) {
-        return joinThrough(function6.andThen(Future::succeededFuture));
+        return joinThrough(function6.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -193,9 +193,9 @@ public final class CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> extends Composi
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 6-arity.
      */
     public <R> Future<R> joinApplift(Function6<T0, T1, T2, T3, T4, T5, Future<R>> function6) {
-        return composite.flatMap(future -> function6.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function6.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5)
-        ));
+        )));
     }
 }
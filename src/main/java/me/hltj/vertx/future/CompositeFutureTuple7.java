@@ -132,7 +132,7 @@ public final class CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> extends Com
     public <R> Future<R> through(
             Function7<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, Future<T5>, Future<T6>, R> function7
     ) {
-        return joinThrough(function7.andThen(Future::succeededFuture));
+        return joinThrough(function7.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -198,9 +198,9 @@ public final class CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> extends Com
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 7-arity.
      */
     public <R> Future<R> joinApplift(Function7<T0, T1, T2, T3, T4, T5, T6, Future<R>> function7) {
-        return composite.flatMap(future -> function7.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function7.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6)
-        ));
+        )));
     }
 }
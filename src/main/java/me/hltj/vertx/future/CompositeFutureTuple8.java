@@ -136,7 +136,7 @@ public final class CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> extends
             Function8<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, Future<T5>, Future<T6>, Future<T7>,
                     R> function8
     ) {
-        return joinThrough(function8.andThen(Future::succeededFuture));
+        return joinThrough(function8.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -202,9 +202,9 @@ public final class CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> extends
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 8-arity.
      */
     public <R> Future<R> joinApplift(Function8<T0, T1, T2, T3, T4, T5, T6, T7, Future<R>> function8) {
-        return composite.flatMap(future -> function8.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function8.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7)
-        ));
+        )));
     }
 }
@@ -138,7 +138,7 @@ public final class CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> ext
             Function9<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, Future<T5>, Future<T6>, Future<T7>,
                     Future<T8>, R> function9
     ) {
-        return joinThrough(function9.andThen(Future::succeededFuture));
+        return joinThrough(function9.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -205,10 +205,10 @@ public final class CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> ext
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 9-arity.
      */
     public <R> Future<R> joinApplift(Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, Future<R>> function9) {
-        return composite.flatMap(future -> function9.apply(
+        return composite.flatMap(future -> Deadline.check(() -> function9.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7),
                 composite.resultAt(8)
-        ));
+        )));
     }
 }
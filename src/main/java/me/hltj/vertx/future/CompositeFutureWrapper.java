@@ -102,7 +102,7 @@ public class CompositeFutureWrapper {
      * @return the result {@code Future}
      */
     public <R> Future<R> through(Function<CompositeFuture, R> function) {
-        return joinThrough(function.andThen(Future::succeededFuture));
+        return joinThrough(function.andThen(ConstantFutures::succeeded));
     }
 
     /**
@@ -0,0 +1,174 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared immutable {@link Future}s for the constant results that are produced over and over again.
+ * <p>
+ * Every returned {@code Future} is already completed and not bound to any context, so it can be shared across calls
+ * and threads just like {@link Future#succeededFuture()}. Returning one of them instead of a new {@code Future}
+ * makes the empty-result and the small-result paths allocation free.
+ *
+ * @since 1.2.0
+ */
+public final class ConstantFutures {
+    private static final int INTEGER_LOW = -128;
+    private static final int INTEGER_HIGH = 127;
+
+    private static final Future<Boolean> TRUE = Future.succeededFuture(Boolean.TRUE);
+    private static final Future<Boolean> FALSE = Future.succeededFuture(Boolean.FALSE);
+    private static final Future<?>[] INTEGERS = new Future<?>[INTEGER_HIGH - INTEGER_LOW + 1];
+    private static final Future<List<?>> EMPTY_LIST = Future.succeededFuture(Collections.emptyList());
+    private static final Future<Set<?>> EMPTY_SET = Future.succeededFuture(Collections.emptySet());
+    private static final Future<Map<?, ?>> EMPTY_MAP = Future.succeededFuture(Collections.emptyMap());
+    private static final Future<?> NULL_POINTER = Future.failedFuture(Failures.EMPTY_VALUE);
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = Future.succeededFuture(i + INTEGER_LOW);
+        }
+    }
+
+    private ConstantFutures() {
+    }
+
+    /**
+     * Get the shared {@link Future} that succeeds with {@code null}.
+     *
+     * @param <T> the type parameter of the {@code Future}
+     * @return the shared {@code Future}
+     */
+    public static <T> Future<T> empty() {
+        return Future.succeededFuture();
+    }
+
+    /**
+     * Get the shared {@link Future} that succeeds with the {@code boolean} value.
+     *
+     * @param value the value
+     * @return the shared {@code Future}
+     */
+    public static Future<Boolean> of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * Get a {@link Future} that succeeds with the {@code int} value, shared for the values in {@code [-128, 127]}.
+     *
+     * @param value the value
+     * @return the shared {@code Future} for a small value and a new one otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static Future<Integer> of(int value) {
+        if (value >= INTEGER_LOW && value <= INTEGER_HIGH) {
+            return (Future<Integer>) INTEGERS[value - INTEGER_LOW];
+        }
+        return Future.succeededFuture(value);
+    }
+
+    /**
+     * Get the shared {@link Future} that succeeds with an empty {@link List}.
+     *
+     * @param <T> the element type of the {@code List}
+     * @return the shared {@code Future}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Future<List<T>> emptyList() {
+        return (Future) EMPTY_LIST;
+    }
+
+    /**
+     * Get the shared {@link Future} that succeeds with an empty {@link Set}.
+     *
+     * @param <T> the element type of the {@code Set}
+     * @return the shared {@code Future}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Future<Set<T>> emptySet() {
+        return (Future) EMPTY_SET;
+    }
+
+    /**
+     * Get the shared {@link Future} that succeeds with an empty {@link Map}.
+     *
+     * @param <K> the key type of the {@code Map}
+     * @param <V> the value type of the {@code Map}
+     * @return the shared {@code Future}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <K, V> Future<Map<K, V>> emptyMap() {
+        return (Future) EMPTY_MAP;
+    }
+
+    /**
+     * Get a {@link Future} that succeeds with the {@code value}.
+     * <p>
+     * It likes {@link Future#succeededFuture(Object)} but returns a shared {@code Future} for {@code null},
+     * {@link Boolean}s, small {@link Integer}s and the empty collections of {@link Collections}.
+     *
+     * @param value the value
+     * @param <T>   the type parameter of the {@code Future}
+     * @return a shared {@code Future} if there is one for the {@code value} and a new one otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Future<T> succeeded(T value) {
+        if (value == null) {
+            return Future.succeededFuture();
+        } else if (value instanceof Boolean) {
+            return (Future<T>) of(((Boolean) value).booleanValue());
+        } else if (value instanceof Integer) {
+            int i = (Integer) value;
+            return i >= INTEGER_LOW && i <= INTEGER_HIGH ? (Future<T>) INTEGERS[i - INTEGER_LOW]
+                    : Future.succeededFuture(value);
+        } else if (value == Collections.emptyList()) {
+            return (Future<T>) EMPTY_LIST;
+        } else if (value == Collections.emptySet()) {
+            return (Future<T>) EMPTY_SET;
+        } else if (value == Collections.emptyMap()) {
+            return (Future<T>) EMPTY_MAP;
+        }
+        return Future.succeededFuture(value);
+    }
+
+    /**
+     * Get the shared {@link Future} that failed with a {@link NullPointerException} for a missing value.
+     * <p>
+     * The {@code NullPointerException} is shared as well, it has no stack trace and must not be modified, e.g. by
+     * {@code addSuppressed()}. See {@link Failures#emptyValue()} for the one created as the
+     * {@link Failures.Mode} says.
+     *
+     * @param <T> the type parameter of the {@code Future}
+     * @return the shared {@code Future}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Future<T> nullPointer() {
+        return (Future<T>) NULL_POINTER;
+    }
+}
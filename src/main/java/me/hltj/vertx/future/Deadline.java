@@ -0,0 +1,191 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import me.hltj.vertx.FutureUtils;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A deadline carried by a Vert.x context, so the chained operators stop starting the work that can't finish in time.
+ * <p>
+ * {@link #within(Duration, Supplier)} puts the deadline as a local of a duplicated context, the callbacks of the
+ * {@code Future}s created there run on that context too. Called on a duplicated context, such as the one that
+ * Vert.x 4 runs an HTTP request handler on, it uses that context until the {@code Future} returned by the supplier
+ * completes. Called on a root context, such as the one of a verticle, it calls the supplier on a new duplicate of it,
+ * so the deadline never leaks into the other work on the root context. It uses the context locals and the duplicated
+ * contexts of Vert.x 4, the operators never touch them until a deadline is created. Before calling its function,
+ * {@link FutureUtils#flatMapSome(Future, Function)}, {@link FutureUtils#flatFallbackWith(Future, Function, Supplier)}
+ * and the {@code joinApplift} of the {@code CompositeFutureTuple}s check the deadline of the current context with
+ * {@link #check(Supplier)}, and fail with a {@link DeadlineExceededException} instead once it is exceeded.
+ *
+ * @since 1.2.0
+ */
+public final class Deadline {
+    private static final Object KEY = new Object();
+    private static final boolean DUPLICABLE = isDuplicable();
+    private static volatile boolean created;
+
+    private final long deadlineNanos;
+    private final long budgetMillis;
+    private DeadlineExceededException exception;
+
+    private Deadline(long deadlineNanos, long budgetMillis) {
+        this.deadlineNanos = deadlineNanos;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Call the {@code supplier} with the current Vert.x context carrying a deadline of {@code budget} from now, or
+     * the deadline of the current context if that one is earlier.
+     * <p>
+     * The {@code supplier} is called as {@link FutureUtils#joinWrap(Supplier)} does, but it is not called if the
+     * deadline of the current context is exceeded already. On a duplicated context, the previous deadline of the
+     * context is restored once the returned {@code Future} completes. On a root context, the {@code supplier} is called
+     * on a new duplicate of it that carries the deadline. If it is not called on a Vert.x context, or the Vert.x
+     * version has no duplicated contexts, a {@code Future} failed with {@link IllegalStateException} is returned
+     * without calling the {@code supplier}.
+     *
+     * @param budget   the time budget
+     * @param supplier the supplier to start the work
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the result {@code Future}
+     */
+    public static <T> Future<T> within(Duration budget, Supplier<Future<T>> supplier) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            return Future.failedFuture(
+                    new IllegalStateException("Deadline.within() must be called on a Vert.x context")
+            );
+        } else if (!DUPLICABLE || !(context instanceof ContextInternal)) {
+            return Future.failedFuture(
+                    new IllegalStateException("Deadline.within() needs the duplicated contexts of Vert.x 4")
+            );
+        }
+
+        created = true;
+        Deadline current = context.getLocal(KEY);
+        Deadline deadline = new Deadline(System.nanoTime() + budget.toNanos(), budget.toMillis());
+        if (current != null && current.deadlineNanos - deadline.deadlineNanos <= 0) {
+            deadline = current;
+        }
+        if (deadline.isExceeded()) {
+            return Future.failedFuture(deadline.exception());
+        } else if (deadline == current) {
+            return FutureUtils.joinWrap(supplier);
+        }
+
+        Deadline narrowed = deadline;
+        ContextInternal internal = (ContextInternal) context;
+        if (internal.unwrap() != internal) {
+            context.putLocal(KEY, narrowed);
+            return FutureUtils.joinWrap(supplier).onComplete(ar -> restore(context, narrowed, current));
+        }
+
+        // the locals of a root context are seen by all its work, so the deadline is scoped by a duplicate of it
+        ContextInternal duplicate = internal.duplicate();
+        duplicate.putLocal(KEY, narrowed);
+        ContextInternal previous = duplicate.beginDispatch();
+        try {
+            return FutureUtils.joinWrap(supplier);
+        } finally {
+            duplicate.endDispatch(previous);
+        }
+    }
+
+    /**
+     * Return the deadline of the current Vert.x context, or {@code null} if there is none.
+     */
+    public static Deadline current() {
+        if (!created) {
+            return null;
+        }
+
+        Context context = Vertx.currentContext();
+        return context == null ? null : context.getLocal(KEY);
+    }
+
+    /**
+     * Call the {@code supplier} unless the deadline of the current Vert.x context is exceeded.
+     *
+     * @param supplier the supplier to start the work
+     * @param <T>      the type parameter of the {@code Future}
+     * @return the {@code Future} returned by the {@code supplier}, or a {@code Future} failed with
+     * a {@link DeadlineExceededException} without calling it
+     */
+    public static <T> Future<T> check(Supplier<Future<T>> supplier) {
+        Deadline deadline = current();
+        return deadline != null && deadline.isExceeded() ? Future.failedFuture(deadline.exception()) : supplier.get();
+    }
+
+    /**
+     * Return the time left, which is negative once the deadline is exceeded.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Return whether the deadline is exceeded.
+     */
+    public boolean isExceeded() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    private static boolean isDuplicable() {
+        try {
+            ContextInternal.class.getMethod("duplicate");
+            ContextInternal.class.getMethod("unwrap");
+            ContextInternal.class.getMethod("beginDispatch");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static void restore(Context context, Deadline deadline, Deadline previous) {
+        if (context.getLocal(KEY) != deadline) {
+            return;
+        } else if (previous == null) {
+            context.removeLocal(KEY);
+        } else {
+            context.putLocal(KEY, previous);
+        }
+    }
+
+    private DeadlineExceededException exception() {
+        Failures.Mode mode = Failures.getMode();
+        if (mode == Failures.Mode.STACKLESS || mode == Failures.Mode.FULL_TRACE) {
+            return new DeadlineExceededException(budgetMillis, mode == Failures.Mode.FULL_TRACE);
+        } else if (exception == null) {
+            exception = new DeadlineExceededException(budgetMillis, false);
+        }
+        return exception;
+    }
+}
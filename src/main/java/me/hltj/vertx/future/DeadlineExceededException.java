@@ -0,0 +1,40 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+/**
+ * The failure of the work that is not started because the {@link Deadline} of the current Vert.x context
+ * is exceeded.
+ * <p>
+ * It is created as the {@link Failures.Mode} says, in the {@link Failures.Mode#DEFAULT} and the
+ * {@link Failures.Mode#SHARED} modes it is created at most once per deadline without a stack trace.
+ *
+ * @since 1.2.0
+ */
+public final class DeadlineExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    DeadlineExceededException(long budgetMillis, boolean writableStackTrace) {
+        super("deadline of " + budgetMillis + " ms exceeded", null, false, writableStackTrace);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The factory of the failures generated by the library itself, such as the empty value of
+ * {@link me.hltj.vertx.FutureUtils#nonEmpty(Future)}, timeouts, exceeded {@link Deadline}s and rejected calls.
+ * <p>
+ * Filling in a stack trace is by far the most expensive part of creating an exception, and such failures are often
+ * normal outcomes that happen many times per second, so how they are created is configurable with a {@link Mode}.
+ * The default mode is {@link Mode#DEFAULT}, which keeps how each failure was created before the modes existed.
+ *
+ * @since 1.2.0
+ */
+public final class Failures {
+    static final NullPointerException EMPTY_VALUE = new StacklessNullPointerException();
+    private static final TimeoutException TIMEOUT = new StacklessTimeoutException("timed out");
+
+    private static volatile Mode mode = Mode.DEFAULT;
+
+    private Failures() {
+    }
+
+    /**
+     * How the library-generated failures are created.
+     */
+    public enum Mode {
+        /**
+         * Each failure is created as it was before the modes existed: the {@link NullPointerException} of an empty
+         * value and the {@link TimeoutException} are created for every call with a full stack trace, while the
+         * {@link me.hltj.vertx.concurrent.RejectedException}, the
+         * {@link me.hltj.vertx.concurrent.CircuitBreakerOpenException} and the {@link DeadlineExceededException} are
+         * preallocated once per component without a stack trace.
+         */
+        DEFAULT,
+        /**
+         * A preallocated failure without a stack trace is shared, the message is the most generic one, e.g. once per
+         * limiter for a rejection, once per deadline for an exceeded deadline and once for all timeouts.
+         * It costs nothing but the shared failure must not be modified, e.g. by {@code addSuppressed()}.
+         */
+        SHARED,
+        /**
+         * A new failure with the specific message is created for every call without a stack trace.
+         */
+        STACKLESS,
+        /**
+         * A new failure with the specific message and a full stack trace is created for every call,
+         * which is the most expensive one but helps debugging.
+         */
+        FULL_TRACE
+    }
+
+    /**
+     * Return the current {@link Mode}.
+     */
+    public static Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Set the {@link Mode} for the failures created from now on.
+     *
+     * @param mode the mode
+     */
+    public static void setMode(Mode mode) {
+        Failures.mode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * Create the failure of an empty value that should be non-empty, it has no message.
+     */
+    public static NullPointerException emptyValue() {
+        switch (mode) {
+            case SHARED:
+                return EMPTY_VALUE;
+            case STACKLESS:
+                return new StacklessNullPointerException();
+            default:
+                return new NullPointerException();
+        }
+    }
+
+    /**
+     * Get a {@link Future} failed with the failure of an empty value, the {@code Future} itself is shared as well
+     * in the {@link Mode#SHARED} mode.
+     *
+     * @param <T> the type parameter of the {@code Future}
+     * @return the failed {@code Future}
+     */
+    public static <T> Future<T> failedEmptyValue() {
+        return mode == Mode.SHARED ? ConstantFutures.nullPointer() : Future.failedFuture(emptyValue());
+    }
+
+    /**
+     * Create the failure of a timeout.
+     *
+     * @param timeoutMillis the timeout in milliseconds
+     * @return the failure
+     */
+    public static TimeoutException timeout(long timeoutMillis) {
+        switch (mode) {
+            case SHARED:
+                return TIMEOUT;
+            case STACKLESS:
+                return new StacklessTimeoutException("timed out after " + timeoutMillis + " ms");
+            default:
+                return new TimeoutException("timed out after " + timeoutMillis + " ms");
+        }
+    }
+
+    private static final class StacklessNullPointerException extends NullPointerException {
+        private static final long serialVersionUID = 1L;
+
+        private StacklessNullPointerException() {
+            super();
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class StacklessTimeoutException extends TimeoutException {
+        private static final long serialVersionUID = 1L;
+
+        private StacklessTimeoutException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
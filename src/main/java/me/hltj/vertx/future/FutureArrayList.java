@@ -0,0 +1,78 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A fixed-size {@link List} view of the {@link Future}s of a tuple, to pass them to the {@code List} factories of
+ * {@link CompositeFuture} without copying.
+ * <p>
+ * {@link CompositeFuture#all(List)}, {@link CompositeFuture#any(List)} and {@link CompositeFuture#join(List)} call
+ * {@code toArray(new Future[0])} and keep the returned array, so the view hands over its own array there instead of
+ * a copy as {@link java.util.Arrays#asList(Object[])} does. The view is dropped right after, so the array is never
+ * shared.
+ */
+final class FutureArrayList<T> extends AbstractList<T> implements RandomAccess {
+    private final T[] array;
+
+    FutureArrayList(T[] array) {
+        this.array = array;
+    }
+
+    static CompositeFuture all(Future<?>... futures) {
+        return CompositeFuture.all(new FutureArrayList<>(futures));
+    }
+
+    static CompositeFuture any(Future<?>... futures) {
+        return CompositeFuture.any(new FutureArrayList<>(futures));
+    }
+
+    static CompositeFuture join(Future<?>... futures) {
+        return CompositeFuture.join(new FutureArrayList<>(futures));
+    }
+
+    @Override
+    public T get(int index) {
+        return array[index];
+    }
+
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <E> E[] toArray(E[] a) {
+        if (a.length == 0 && a.getClass() == array.getClass()) {
+            return (E[]) array;
+        }
+        return super.toArray(a);
+    }
+}
@@ -30,12 +30,17 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.concurrent.CircuitBreaker;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import static me.hltj.vertx.FutureUtils.defaultWith;
 import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.mapEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseOf;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -63,7 +68,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> mapEmpty() {
-        return of(_0.mapEmpty(), _1.mapEmpty());
+        return update(mapEmptyOf(_0), mapEmptyOf(_1));
     }
 
     /**
@@ -76,7 +81,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> otherwise(T0 v0, T1 v1) {
-        return of(_0.otherwise(v0), _1.otherwise(v1));
+        return update(otherwiseOf(_0, v0), otherwiseOf(_1, v1));
     }
 
     /**
@@ -91,7 +96,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> otherwise(Consumer<Throwable> onFailure, T0 v0, T1 v1) {
-        return of(_0.otherwise(toFailureMapper(onFailure, v0)), _1.otherwise(toFailureMapper(onFailure, v1)));
+        return update(otherwiseOf(_0, toFailureMapper(onFailure, v0)), otherwiseOf(_1, toFailureMapper(onFailure, v1)));
     }
 
     /**
@@ -102,7 +107,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> otherwiseEmpty() {
-        return of(_0.otherwiseEmpty(), _1.otherwiseEmpty());
+        return update(otherwiseEmptyOf(_0), otherwiseEmptyOf(_1));
     }
 
     /**
@@ -115,7 +120,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> defaults(T0 v0, T1 v1) {
-        return of(defaultWith(_0, v0), defaultWith(_1, v1));
+        return update(defaultWith(_0, v0), defaultWith(_1, v1));
     }
 
     /**
@@ -131,7 +136,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> defaults(Runnable onEmpty, T0 v0, T1 v1) {
-        return of(
+        return update(
                 FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
                 FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1))
         );
@@ -147,7 +152,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> fallback(T0 v0, T1 v1) {
-        return of(fallbackWith(_0, v0), fallbackWith(_1, v1));
+        return update(fallbackWith(_0, v0), fallbackWith(_1, v1));
     }
 
     /**
@@ -165,12 +170,45 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> fallback(Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1) {
-        return of(
+        return update(
                 fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
                 fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1))
         );
     }
 
+    /**
+     * Map {@link Future}s that failed or succeed with null to fallback values, with a {@link CircuitBreaker} per
+     * slot.
+     * <p>
+     * Each {@code Future} is guarded by its breaker as {@link CircuitBreaker#guard(Future)} does, so its outcome is
+     * recorded, and the fallback value is used immediately instead of waiting for it while the breaker is open.
+     * Then it behaves as applying {@link FutureUtils#fallbackWith(Future, Object)} to each {@code Future}.
+     *
+     * @param breaker0 the circuit breaker of the 1st {@code Future}
+     * @param breaker1 the circuit breaker of the 2nd {@code Future}
+     * @param v0       the fallback value used for mapping the 1st {@code Future}
+     * @param v1       the fallback value used for mapping the 2nd {@code Future}
+     * @return the mapped {@code Future}s
+     * @since 1.2.0
+     */
+    public FutureTuple2<T0, T1> fallback(CircuitBreaker breaker0, CircuitBreaker breaker1, T0 v0, T1 v1) {
+        return update(fallbackWith(breaker0.guard(_0), v0), fallbackWith(breaker1.guard(_1), v1));
+    }
+
+    /**
+     * Fail the {@link Future}s that do not complete within the {@code timeout}.
+     * <p>
+     * It behaves as applying {@link FutureUtils#timeout(Future, Duration)} to each {@code Future} with the same
+     * {@code timeout}.
+     *
+     * @param timeout the timeout
+     * @return the mapped {@code Future}s
+     * @since 1.2.0
+     */
+    public FutureTuple2<T0, T1> timeout(Duration timeout) {
+        return update(FutureUtils.timeout(_0, timeout), FutureUtils.timeout(_1, timeout));
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple2} with {@link CompositeFuture#all(Future, Future)}.
      *
@@ -180,6 +218,23 @@ public final class FutureTuple2<T0, T1> {
         return compose(CompositeFuture::all);
     }
 
+    /**
+     * Composite this future tuple to a {@link CompositeFutureTuple2} as {@link #all()} does, and cancel the
+     * {@code token} with the cause once the composite fails.
+     * <p>
+     * The {@code Future}s are usually produced by operations that observe the same {@code token}, so the first
+     * failure aborts the sibling operations whose results will never be read.
+     *
+     * @param token the token shared by the operations of the {@code Future}s
+     * @return the {@code CompositeFutureTuple2}
+     * @since 1.2.0
+     */
+    public CompositeFutureTuple2<T0, T1> all(CancellationToken token) {
+        CompositeFutureTuple2<T0, T1> composite = all();
+        composite.raw().onFailure(token::cancel);
+        return composite;
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple2} with {@link CompositeFuture#any(Future, Future)}.
      *
@@ -198,6 +253,20 @@ public final class FutureTuple2<T0, T1> {
         return compose(CompositeFuture::join);
     }
 
+    /**
+     * Settle this future tuple to a {@link Future} of {@link OutcomeTuple2} once all the {@code Future}s complete.
+     * <p>
+     * The returned {@code Future} never fails, each slot of the {@code OutcomeTuple2} holds either the result or
+     * the failure cause of the corresponding {@code Future}, so no exception is created to carry the partial
+     * results.
+     *
+     * @return the {@code Future} of the {@code OutcomeTuple2}
+     * @since 1.2.0
+     */
+    public Future<OutcomeTuple2<T0, T1>> allSettled() {
+        return join().through((v0, v1) -> OutcomeTuple2.of(Outcome.of(v0), Outcome.of(v1)));
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple2}.
      *
@@ -207,4 +276,8 @@ public final class FutureTuple2<T0, T1> {
     public CompositeFutureTuple2<T0, T1> compose(BiFunction<Future<T0>, Future<T1>, CompositeFuture> function2) {
         return CompositeFutureTuple2.of(this, function2.apply(_0, _1));
     }
+
+    private FutureTuple2<T0, T1> update(Future<T0> future0, Future<T1> future1) {
+        return future0 == _0 && future1 == _1 ? this : of(future0, future1);
+    }
 }
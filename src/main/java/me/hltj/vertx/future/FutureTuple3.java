@@ -30,13 +30,18 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.concurrent.CircuitBreaker;
 import me.hltj.vertx.function.Function3;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import static me.hltj.vertx.FutureUtils.defaultWith;
 import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.mapEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseOf;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -64,7 +69,7 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#mapEmpty()} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> mapEmpty() {
-        return of(_0.mapEmpty(), _1.mapEmpty(), _2.mapEmpty());
+        return update(mapEmptyOf(_0), mapEmptyOf(_1), mapEmptyOf(_2));
     }
 
     /**
@@ -73,7 +78,7 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#otherwise(Object, Object)} (Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> otherwise(T0 v0, T1 v1, T2 v2) {
-        return of(_0.otherwise(v0), _1.otherwise(v1), _2.otherwise(v2));
+        return update(otherwiseOf(_0, v0), otherwiseOf(_1, v1), otherwiseOf(_2, v2));
     }
 
     /**
@@ -82,10 +87,10 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#otherwise(Consumer, Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> otherwise(Consumer<Throwable> onFailure, T0 v0, T1 v1, T2 v2) {
-        return of(
-                _0.otherwise(toFailureMapper(onFailure, v0)),
-                _1.otherwise(toFailureMapper(onFailure, v1)),
-                _2.otherwise(toFailureMapper(onFailure, v2))
+        return update(
+                otherwiseOf(_0, toFailureMapper(onFailure, v0)),
+                otherwiseOf(_1, toFailureMapper(onFailure, v1)),
+                otherwiseOf(_2, toFailureMapper(onFailure, v2))
         );
     }
 
@@ -95,7 +100,7 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#otherwiseEmpty()} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> otherwiseEmpty() {
-        return of(_0.otherwiseEmpty(), _1.otherwiseEmpty(), _2.otherwiseEmpty());
+        return update(otherwiseEmptyOf(_0), otherwiseEmptyOf(_1), otherwiseEmptyOf(_2));
     }
 
     /**
@@ -104,7 +109,7 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#defaults(Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> defaults(T0 v0, T1 v1, T2 v2) {
-        return of(defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2));
+        return update(defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2));
     }
 
     /**
@@ -113,7 +118,7 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#defaults(Runnable, Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> defaults(Runnable onEmpty, T0 v0, T1 v1, T2 v2) {
-        return of(
+        return update(
                 FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
                 FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
                 FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2))
@@ -126,7 +131,7 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#fallback(Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> fallback(T0 v0, T1 v1, T2 v2) {
-        return of(fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2));
+        return update(fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2));
     }
 
     /**
@@ -136,13 +141,43 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#fallback(Consumer, Runnable, Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> fallback(Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2) {
-        return of(
+        return update(
                 fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
                 fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
                 fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2))
         );
     }
 
+    /**
+     * Map {@link Future}s that failed or succeed with null to fallback values, with a {@link CircuitBreaker} per
+     * slot.
+     * <p>
+     * It likes {@link FutureTuple2#fallback(CircuitBreaker, CircuitBreaker, Object, Object)} but with 3-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple3<T0, T1, T2> fallback(
+            CircuitBreaker breaker0, CircuitBreaker breaker1, CircuitBreaker breaker2, T0 v0, T1 v1, T2 v2
+    ) {
+        return update(
+                fallbackWith(breaker0.guard(_0), v0), fallbackWith(breaker1.guard(_1), v1),
+                fallbackWith(breaker2.guard(_2), v2)
+        );
+    }
+
+    /**
+     * Fail the {@link Future}s that do not complete within the {@code timeout}.
+     * <p>
+     * It likes {@link FutureTuple2#timeout(Duration)} but with 3-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple3<T0, T1, T2> timeout(Duration timeout) {
+        return update(
+                FutureUtils.timeout(_0, timeout), FutureUtils.timeout(_1, timeout), FutureUtils.timeout(_2, timeout)
+        );
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple3}
      * with {@link CompositeFuture#all(Future, Future, Future)}.
@@ -153,6 +188,20 @@ public final class FutureTuple3<T0, T1, T2> {
         return compose(CompositeFuture::all);
     }
 
+    /**
+     * Composite this future tuple to a {@link CompositeFutureTuple3} as {@link #all()} does, and cancel the
+     * {@code token} with the cause once the composite fails.
+     * <p>
+     * It likes {@link FutureTuple2#all(CancellationToken)} but with 3-arity.
+     *
+     * @since 1.2.0
+     */
+    public CompositeFutureTuple3<T0, T1, T2> all(CancellationToken token) {
+        CompositeFutureTuple3<T0, T1, T2> composite = all();
+        composite.raw().onFailure(token::cancel);
+        return composite;
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple3}
      * with {@link CompositeFuture#any(Future, Future, Future)}.
@@ -173,6 +222,17 @@ public final class FutureTuple3<T0, T1, T2> {
         return compose(CompositeFuture::join);
     }
 
+    /**
+     * Settle this future tuple to a {@link Future} of {@link OutcomeTuple3} once all the {@code Future}s complete.
+     * <p>
+     * It likes {@link FutureTuple2#allSettled()} but with 3-arity.
+     *
+     * @since 1.2.0
+     */
+    public Future<OutcomeTuple3<T0, T1, T2>> allSettled() {
+        return join().through((v0, v1, v2) -> OutcomeTuple3.of(Outcome.of(v0), Outcome.of(v1), Outcome.of(v2)));
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple3}.
      * <p>
@@ -183,4 +243,8 @@ public final class FutureTuple3<T0, T1, T2> {
     ) {
         return CompositeFutureTuple3.of(this, function3.apply(_0, _1, _2));
     }
+
+    private FutureTuple3<T0, T1, T2> update(Future<T0> future0, Future<T1> future1, Future<T2> future2) {
+        return future0 == _0 && future1 == _1 && future2 == _2 ? this : of(future0, future1, future2);
+    }
 }
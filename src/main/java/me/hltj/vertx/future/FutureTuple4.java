@@ -30,13 +30,18 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.concurrent.CircuitBreaker;
 import me.hltj.vertx.function.Function4;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import static me.hltj.vertx.FutureUtils.defaultWith;
 import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.mapEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseOf;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -66,7 +71,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#mapEmpty()} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> mapEmpty() {
-        return of(_0.mapEmpty(), _1.mapEmpty(), _2.mapEmpty(), _3.mapEmpty());
+        return update(mapEmptyOf(_0), mapEmptyOf(_1), mapEmptyOf(_2), mapEmptyOf(_3));
     }
 
     /**
@@ -75,7 +80,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#otherwise(Object, Object)} (Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> otherwise(T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(_0.otherwise(v0), _1.otherwise(v1), _2.otherwise(v2), _3.otherwise(v3));
+        return update(otherwiseOf(_0, v0), otherwiseOf(_1, v1), otherwiseOf(_2, v2), otherwiseOf(_3, v3));
     }
 
     /**
@@ -84,11 +89,11 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#otherwise(Consumer, Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> otherwise(Consumer<Throwable> onFailure, T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(
-                _0.otherwise(toFailureMapper(onFailure, v0)),
-                _1.otherwise(toFailureMapper(onFailure, v1)),
-                _2.otherwise(toFailureMapper(onFailure, v2)),
-                _3.otherwise(toFailureMapper(onFailure, v3))
+        return update(
+                otherwiseOf(_0, toFailureMapper(onFailure, v0)),
+                otherwiseOf(_1, toFailureMapper(onFailure, v1)),
+                otherwiseOf(_2, toFailureMapper(onFailure, v2)),
+                otherwiseOf(_3, toFailureMapper(onFailure, v3))
         );
     }
 
@@ -98,7 +103,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#otherwiseEmpty()} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> otherwiseEmpty() {
-        return of(_0.otherwiseEmpty(), _1.otherwiseEmpty(), _2.otherwiseEmpty(), _3.otherwiseEmpty());
+        return update(otherwiseEmptyOf(_0), otherwiseEmptyOf(_1), otherwiseEmptyOf(_2), otherwiseEmptyOf(_3));
     }
 
     /**
@@ -107,7 +112,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#defaults(Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> defaults(T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3));
+        return update(defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3));
     }
 
     /**
@@ -116,7 +121,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#defaults(Runnable, Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> defaults(Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(
+        return update(
                 FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
                 FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
                 FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2)),
@@ -130,7 +135,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#fallback(Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> fallback(T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3));
+        return update(fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3));
     }
 
     /**
@@ -142,7 +147,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
     public FutureTuple4<T0, T1, T2, T3> fallback(
             Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3
     ) {
-        return of(
+        return update(
                 fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
                 fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
                 fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
@@ -150,6 +155,38 @@ public final class FutureTuple4<T0, T1, T2, T3> {
         );
     }
 
+    /**
+     * Map {@link Future}s that failed or succeed with null to fallback values, with a {@link CircuitBreaker} per
+     * slot.
+     * <p>
+     * It likes {@link FutureTuple2#fallback(CircuitBreaker, CircuitBreaker, Object, Object)} but with 4-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple4<T0, T1, T2, T3> fallback(
+            CircuitBreaker breaker0, CircuitBreaker breaker1, CircuitBreaker breaker2, CircuitBreaker breaker3, T0 v0,
+            T1 v1, T2 v2, T3 v3
+    ) {
+        return update(
+                fallbackWith(breaker0.guard(_0), v0), fallbackWith(breaker1.guard(_1), v1),
+                fallbackWith(breaker2.guard(_2), v2), fallbackWith(breaker3.guard(_3), v3)
+        );
+    }
+
+    /**
+     * Fail the {@link Future}s that do not complete within the {@code timeout}.
+     * <p>
+     * It likes {@link FutureTuple2#timeout(Duration)} but with 4-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple4<T0, T1, T2, T3> timeout(Duration timeout) {
+        return update(
+                FutureUtils.timeout(_0, timeout), FutureUtils.timeout(_1, timeout), FutureUtils.timeout(_2, timeout),
+                FutureUtils.timeout(_3, timeout)
+        );
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple4}
      * with {@link CompositeFuture#all(Future, Future, Future, Future)}.
@@ -160,6 +197,20 @@ public final class FutureTuple4<T0, T1, T2, T3> {
         return compose(CompositeFuture::all);
     }
 
+    /**
+     * Composite this future tuple to a {@link CompositeFutureTuple4} as {@link #all()} does, and cancel the
+     * {@code token} with the cause once the composite fails.
+     * <p>
+     * It likes {@link FutureTuple2#all(CancellationToken)} but with 4-arity.
+     *
+     * @since 1.2.0
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> all(CancellationToken token) {
+        CompositeFutureTuple4<T0, T1, T2, T3> composite = all();
+        composite.raw().onFailure(token::cancel);
+        return composite;
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple4}
      * with {@link CompositeFuture#any(Future, Future, Future, Future)}.
@@ -180,6 +231,21 @@ public final class FutureTuple4<T0, T1, T2, T3> {
         return compose(CompositeFuture::join);
     }
 
+    /**
+     * Settle this future tuple to a {@link Future} of {@link OutcomeTuple4} once all the {@code Future}s complete.
+     * <p>
+     * It likes {@link FutureTuple2#allSettled()} but with 4-arity.
+     *
+     * @since 1.2.0
+     */
+    public Future<OutcomeTuple4<T0, T1, T2, T3>> allSettled() {
+        return join().through((v0, v1, v2, v3) ->
+                OutcomeTuple4.of(
+                        Outcome.of(v0), Outcome.of(v1), Outcome.of(v2), Outcome.of(v3)
+                )
+        );
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple4}.
      * <p>
@@ -190,4 +256,11 @@ public final class FutureTuple4<T0, T1, T2, T3> {
     ) {
         return CompositeFutureTuple4.of(this, function4.apply(_0, _1, _2, _3));
     }
+
+    private FutureTuple4<T0, T1, T2, T3> update(
+            Future<T0> future0, Future<T1> future1, Future<T2> future2, Future<T3> future3
+    ) {
+        return future0 == _0 && future1 == _1 && future2 == _2 && future3 == _3
+                ? this : of(future0, future1, future2, future3);
+    }
 }
@@ -30,13 +30,18 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.concurrent.CircuitBreaker;
 import me.hltj.vertx.function.Function5;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import static me.hltj.vertx.FutureUtils.defaultWith;
 import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.mapEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseOf;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -68,7 +73,7 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
      * It likes {@link FutureTuple2#mapEmpty()} but with 5-arity.
      */
     public FutureTuple5<T0, T1, T2, T3, T4> mapEmpty() {
-        return of(_0.mapEmpty(), _1.mapEmpty(), _2.mapEmpty(), _3.mapEmpty(), _4.mapEmpty());
+        return update(mapEmptyOf(_0), mapEmptyOf(_1), mapEmptyOf(_2), mapEmptyOf(_3), mapEmptyOf(_4));
     }
 
     /**
@@ -77,7 +82,9 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
      * It likes {@link FutureTuple2#otherwise(Object, Object)} (Object, Object)} but with 5-arity.
      */
     public FutureTuple5<T0, T1, T2, T3, T4> otherwise(T0 v0, T1 v1, T2 v2, T3 v3, T4 v4) {
-        return of(_0.otherwise(v0), _1.otherwise(v1), _2.otherwise(v2), _3.otherwise(v3), _4.otherwise(v4));
+        return update(
+                otherwiseOf(_0, v0), otherwiseOf(_1, v1), otherwiseOf(_2, v2), otherwiseOf(_3, v3), otherwiseOf(_4, v4)
+        );
     }
 
     /**
@@ -88,12 +95,12 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
     public FutureTuple5<T0, T1, T2, T3, T4> otherwise(
             Consumer<Throwable> onFailure, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4
     ) {
-        return of(
-                _0.otherwise(toFailureMapper(onFailure, v0)),
-                _1.otherwise(toFailureMapper(onFailure, v1)),
-                _2.otherwise(toFailureMapper(onFailure, v2)),
-                _3.otherwise(toFailureMapper(onFailure, v3)),
-                _4.otherwise(toFailureMapper(onFailure, v4))
+        return update(
+                otherwiseOf(_0, toFailureMapper(onFailure, v0)),
+                otherwiseOf(_1, toFailureMapper(onFailure, v1)),
+                otherwiseOf(_2, toFailureMapper(onFailure, v2)),
+                otherwiseOf(_3, toFailureMapper(onFailure, v3)),
+                otherwiseOf(_4, toFailureMapper(onFailure, v4))
         );
     }
 
@@ -103,8 +110,9 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
      * It likes {@link FutureTuple2#otherwiseEmpty()} but with 5-arity.
      */
     public FutureTuple5<T0, T1, T2, T3, T4> otherwiseEmpty() {
-        return of(
-                _0.otherwiseEmpty(), _1.otherwiseEmpty(), _2.otherwiseEmpty(), _3.otherwiseEmpty(), _4.otherwiseEmpty()
+        return update(
+                otherwiseEmptyOf(_0), otherwiseEmptyOf(_1), otherwiseEmptyOf(_2), otherwiseEmptyOf(_3),
+                otherwiseEmptyOf(_4)
         );
     }
 
@@ -114,7 +122,7 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
      * It likes {@link FutureTuple2#defaults(Object, Object)} but with 5-arity.
      */
     public FutureTuple5<T0, T1, T2, T3, T4> defaults(T0 v0, T1 v1, T2 v2, T3 v3, T4 v4) {
-        return of(
+        return update(
                 defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3), defaultWith(_4, v4)
         );
     }
@@ -125,7 +133,7 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
      * It likes {@link FutureTuple2#defaults(Runnable, Object, Object)} but with 5-arity.
      */
     public FutureTuple5<T0, T1, T2, T3, T4> defaults(Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4) {
-        return of(
+        return update(
                 FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
                 FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
                 FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2)),
@@ -140,7 +148,7 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
      * It likes {@link FutureTuple2#fallback(Object, Object)} but with 5-arity.
      */
     public FutureTuple5<T0, T1, T2, T3, T4> fallback(T0 v0, T1 v1, T2 v2, T3 v3, T4 v4) {
-        return of(
+        return update(
                 fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3),
                 fallbackWith(_4, v4)
         );
@@ -155,7 +163,7 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
     public FutureTuple5<T0, T1, T2, T3, T4> fallback(
             Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4
     ) {
-        return of(
+        return update(
                 fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
                 fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
                 fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
@@ -164,6 +172,39 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
         );
     }
 
+    /**
+     * Map {@link Future}s that failed or succeed with null to fallback values, with a {@link CircuitBreaker} per
+     * slot.
+     * <p>
+     * It likes {@link FutureTuple2#fallback(CircuitBreaker, CircuitBreaker, Object, Object)} but with 5-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple5<T0, T1, T2, T3, T4> fallback(
+            CircuitBreaker breaker0, CircuitBreaker breaker1, CircuitBreaker breaker2, CircuitBreaker breaker3,
+            CircuitBreaker breaker4, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4
+    ) {
+        return update(
+                fallbackWith(breaker0.guard(_0), v0), fallbackWith(breaker1.guard(_1), v1),
+                fallbackWith(breaker2.guard(_2), v2), fallbackWith(breaker3.guard(_3), v3),
+                fallbackWith(breaker4.guard(_4), v4)
+        );
+    }
+
+    /**
+     * Fail the {@link Future}s that do not complete within the {@code timeout}.
+     * <p>
+     * It likes {@link FutureTuple2#timeout(Duration)} but with 5-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple5<T0, T1, T2, T3, T4> timeout(Duration timeout) {
+        return update(
+                FutureUtils.timeout(_0, timeout), FutureUtils.timeout(_1, timeout), FutureUtils.timeout(_2, timeout),
+                FutureUtils.timeout(_3, timeout), FutureUtils.timeout(_4, timeout)
+        );
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple5}
      * with {@link CompositeFuture#all(Future, Future, Future, Future, Future)}.
@@ -174,6 +215,20 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
         return compose(CompositeFuture::all);
     }
 
+    /**
+     * Composite this future tuple to a {@link CompositeFutureTuple5} as {@link #all()} does, and cancel the
+     * {@code token} with the cause once the composite fails.
+     * <p>
+     * It likes {@link FutureTuple2#all(CancellationToken)} but with 5-arity.
+     *
+     * @since 1.2.0
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> all(CancellationToken token) {
+        CompositeFutureTuple5<T0, T1, T2, T3, T4> composite = all();
+        composite.raw().onFailure(token::cancel);
+        return composite;
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple5}
      * with {@link CompositeFuture#any(Future, Future, Future, Future, Future)}.
@@ -194,6 +249,21 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
         return compose(CompositeFuture::join);
     }
 
+    /**
+     * Settle this future tuple to a {@link Future} of {@link OutcomeTuple5} once all the {@code Future}s complete.
+     * <p>
+     * It likes {@link FutureTuple2#allSettled()} but with 5-arity.
+     *
+     * @since 1.2.0
+     */
+    public Future<OutcomeTuple5<T0, T1, T2, T3, T4>> allSettled() {
+        return join().through((v0, v1, v2, v3, v4) ->
+                OutcomeTuple5.of(
+                        Outcome.of(v0), Outcome.of(v1), Outcome.of(v2), Outcome.of(v3), Outcome.of(v4)
+                )
+        );
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple5}.
      * <p>
@@ -204,4 +274,11 @@ public final class FutureTuple5<T0, T1, T2, T3, T4> {
     ) {
         return CompositeFutureTuple5.of(this, function5.apply(_0, _1, _2, _3, _4));
     }
+
+    private FutureTuple5<T0, T1, T2, T3, T4> update(
+            Future<T0> future0, Future<T1> future1, Future<T2> future2, Future<T3> future3, Future<T4> future4
+    ) {
+        return future0 == _0 && future1 == _1 && future2 == _2 && future3 == _3 && future4 == _4
+                ? this : of(future0, future1, future2, future3, future4);
+    }
 }
@@ -30,15 +30,19 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.concurrent.CircuitBreaker;
 import me.hltj.vertx.function.Function8;
 
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import static me.hltj.vertx.FutureUtils.defaultWith;
 import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.mapEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseEmptyOf;
+import static me.hltj.vertx.future.InternalUtil.otherwiseOf;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -76,9 +80,9 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
      * It likes {@link FutureTuple2#mapEmpty()} but with 8-arity.
      */
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> mapEmpty() {
-        return of(
-                _0.mapEmpty(), _1.mapEmpty(), _2.mapEmpty(), _3.mapEmpty(), _4.mapEmpty(), _5.mapEmpty(), _6.mapEmpty(),
-                _7.mapEmpty()
+        return update(
+                mapEmptyOf(_0), mapEmptyOf(_1), mapEmptyOf(_2), mapEmptyOf(_3), mapEmptyOf(_4), mapEmptyOf(_5),
+                mapEmptyOf(_6), mapEmptyOf(_7)
         );
     }
 
@@ -90,9 +94,9 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> otherwise(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
     ) {
-        return of(
-                _0.otherwise(v0), _1.otherwise(v1), _2.otherwise(v2), _3.otherwise(v3), _4.otherwise(v4),
-                _5.otherwise(v5), _6.otherwise(v6), _7.otherwise(v7)
+        return update(
+                otherwiseOf(_0, v0), otherwiseOf(_1, v1), otherwiseOf(_2, v2), otherwiseOf(_3, v3), otherwiseOf(_4, v4),
+                otherwiseOf(_5, v5), otherwiseOf(_6, v6), otherwiseOf(_7, v7)
         );
     }
 
@@ -104,15 +108,15 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> otherwise(
             Consumer<Throwable> onFailure, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
     ) {
-        return of(
-                _0.otherwise(toFailureMapper(onFailure, v0)),
-                _1.otherwise(toFailureMapper(onFailure, v1)),
-                _2.otherwise(toFailureMapper(onFailure, v2)),
-                _3.otherwise(toFailureMapper(onFailure, v3)),
-                _4.otherwise(toFailureMapper(onFailure, v4)),
-                _5.otherwise(toFailureMapper(onFailure, v5)),
-                _6.otherwise(toFailureMapper(onFailure, v6)),
-                _7.otherwise(toFailureMapper(onFailure, v7))
+        return update(
+                otherwiseOf(_0, toFailureMapper(onFailure, v0)),
+                otherwiseOf(_1, toFailureMapper(onFailure, v1)),
+                otherwiseOf(_2, toFailureMapper(onFailure, v2)),
+                otherwiseOf(_3, toFailureMapper(onFailure, v3)),
+                otherwiseOf(_4, toFailureMapper(onFailure, v4)),
+                otherwiseOf(_5, toFailureMapper(onFailure, v5)),
+                otherwiseOf(_6, toFailureMapper(onFailure, v6)),
+                otherwiseOf(_7, toFailureMapper(onFailure, v7))
         );
     }
 
@@ -122,9 +126,9 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
      * It likes {@link FutureTuple2#otherwiseEmpty()} but with 8-arity.
      */
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> otherwiseEmpty() {
-        return of(
-                _0.otherwiseEmpty(), _1.otherwiseEmpty(), _2.otherwiseEmpty(), _3.otherwiseEmpty(), _4.otherwiseEmpty(),
-                _5.otherwiseEmpty(), _6.otherwiseEmpty(), _7.otherwiseEmpty()
+        return update(
+                otherwiseEmptyOf(_0), otherwiseEmptyOf(_1), otherwiseEmptyOf(_2), otherwiseEmptyOf(_3),
+                otherwiseEmptyOf(_4), otherwiseEmptyOf(_5), otherwiseEmptyOf(_6), otherwiseEmptyOf(_7)
         );
     }
 
@@ -136,7 +140,7 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> defaults(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
     ) {
-        return of(
+        return update(
                 defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3), defaultWith(_4, v4),
                 defaultWith(_5, v5), defaultWith(_6, v6), defaultWith(_7, v7)
         );
@@ -150,7 +154,7 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> defaults(
             Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
     ) {
-        return of(
+        return update(
                 FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
                 FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
                 FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2)),
@@ -170,7 +174,7 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> fallback(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
     ) {
-        return of(
+        return update(
                 fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3),
                 fallbackWith(_4, v4), fallbackWith(_5, v5), fallbackWith(_6, v6), fallbackWith(_7, v7)
         );
@@ -185,7 +189,7 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> fallback(
             Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
     ) {
-        return of(
+        return update(
                 fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
                 fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
                 fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
@@ -197,15 +201,63 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
         );
     }
 
+    /**
+     * Map {@link Future}s that failed or succeed with null to fallback values, with a {@link CircuitBreaker} per
+     * slot.
+     * <p>
+     * It likes {@link FutureTuple2#fallback(CircuitBreaker, CircuitBreaker, Object, Object)} but with 8-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> fallback(
+            CircuitBreaker breaker0, CircuitBreaker breaker1, CircuitBreaker breaker2, CircuitBreaker breaker3,
+            CircuitBreaker breaker4, CircuitBreaker breaker5, CircuitBreaker breaker6, CircuitBreaker breaker7, T0 v0,
+            T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7
+    ) {
+        return update(
+                fallbackWith(breaker0.guard(_0), v0), fallbackWith(breaker1.guard(_1), v1),
+                fallbackWith(breaker2.guard(_2), v2), fallbackWith(breaker3.guard(_3), v3),
+                fallbackWith(breaker4.guard(_4), v4), fallbackWith(breaker5.guard(_5), v5),
+                fallbackWith(breaker6.guard(_6), v6), fallbackWith(breaker7.guard(_7), v7)
+        );
+    }
+
+    /**
+     * Fail the {@link Future}s that do not complete within the {@code timeout}.
+     * <p>
+     * It likes {@link FutureTuple2#timeout(Duration)} but with 8-arity.
+     *
+     * @since 1.2.0
+     */
+    public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> timeout(Duration timeout) {
+        return update(
+                FutureUtils.timeout(_0, timeout), FutureUtils.timeout(_1, timeout), FutureUtils.timeout(_2, timeout),
+                FutureUtils.timeout(_3, timeout), FutureUtils.timeout(_4, timeout), FutureUtils.timeout(_5, timeout),
+                FutureUtils.timeout(_6, timeout), FutureUtils.timeout(_7, timeout)
+        );
+    }
+
     /**
      * Composite this future tuple to a {@link CompositeFutureTuple8} with {@link CompositeFuture#all(List)}.
      * <p>
      * It likes {@link FutureTuple2#all()} but with 8-arity.
      */
     public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> all() {
-        return compose((v0, v1, v2, v3, v4, v5, v6, v7) ->
-                CompositeFuture.all(Arrays.asList(v0, v1, v2, v3, v4, v5, v6, v7))
-        );
+        return compose(FutureArrayList::all);
+    }
+
+    /**
+     * Composite this future tuple to a {@link CompositeFutureTuple8} as {@link #all()} does, and cancel the
+     * {@code token} with the cause once the composite fails.
+     * <p>
+     * It likes {@link FutureTuple2#all(CancellationToken)} but with 8-arity.
+     *
+     * @since 1.2.0
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> all(CancellationToken token) {
+        CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> composite = all();
+        composite.raw().onFailure(token::cancel);
+        return composite;
     }
 
     /**
@@ -214,9 +266,7 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
      * It likes {@link FutureTuple2#any()} but with 8-arity.
      */
     public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> any() {
-        return compose((v0, v1, v2, v3, v4, v5, v6, v7) ->
-                CompositeFuture.any(Arrays.asList(v0, v1, v2, v3, v4, v5, v6, v7))
-        );
+        return compose(FutureArrayList::any);
     }
 
     /**
@@ -225,8 +275,22 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
      * It likes {@link FutureTuple2#join()} but with 8-arity.
      */
     public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> join() {
-        return compose((v0, v1, v2, v3, v4, v5, v6, v7) ->
-                CompositeFuture.join(Arrays.asList(v0, v1, v2, v3, v4, v5, v6, v7))
+        return compose(FutureArrayList::join);
+    }
+
+    /**
+     * Settle this future tuple to a {@link Future} of {@link OutcomeTuple8} once all the {@code Future}s complete.
+     * <p>
+     * It likes {@link FutureTuple2#allSettled()} but with 8-arity.
+     *
+     * @since 1.2.0
+     */
+    public Future<OutcomeTuple8<T0, T1, T2, T3, T4, T5, T6, T7>> allSettled() {
+        return join().through((v0, v1, v2, v3, v4, v5, v6, v7) ->
+                OutcomeTuple8.of(
+                        Outcome.of(v0), Outcome.of(v1), Outcome.of(v2), Outcome.of(v3), Outcome.of(v4), Outcome.of(v5),
+                        Outcome.of(v6), Outcome.of(v7)
+                )
         );
     }
 
@@ -241,4 +305,13 @@ public final class FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> {
     ) {
         return CompositeFutureTuple8.of(this, function8.apply(_0, _1, _2, _3, _4, _5, _6, _7));
     }
+
+    private FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> update(
+            Future<T0> future0, Future<T1> future1, Future<T2> future2, Future<T3> future3, Future<T4> future4,
+            Future<T5> future5, Future<T6> future6, Future<T7> future7
+    ) {
+        return future0 == _0 && future1 == _1 && future2 == _2 && future3 == _3 && future4 == _4
+                && future5 == _5 && future6 == _6 && future7 == _7
+                ? this : of(future0, future1, future2, future3, future4, future5, future6, future7);
+    }
 }
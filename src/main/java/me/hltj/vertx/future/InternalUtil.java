@@ -22,6 +22,9 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.Future;
+import me.hltj.vertx.FutureUtils;
+
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -44,4 +47,32 @@ final class InternalUtil {
             return v0;
         };
     }
+
+    static <T> Future<T> mapEmptyOf(Future<T> future) {
+        if (future.isComplete()) {
+            return future.failed() || future.result() == null ? future : Future.succeededFuture();
+        }
+        return future.mapEmpty();
+    }
+
+    static <T> Future<T> otherwiseOf(Future<T> future, T v0) {
+        if (future.isComplete()) {
+            return future.succeeded() ? future : ConstantFutures.succeeded(v0);
+        }
+        return future.otherwise(v0);
+    }
+
+    static <T> Future<T> otherwiseOf(Future<T> future, Function<Throwable, T> mapper) {
+        if (future.isComplete()) {
+            return future.succeeded() ? future : FutureUtils.wrap(future.cause(), mapper);
+        }
+        return future.otherwise(mapper);
+    }
+
+    static <T> Future<T> otherwiseEmptyOf(Future<T> future) {
+        if (future.isComplete()) {
+            return future.succeeded() ? future : Future.succeededFuture();
+        }
+        return future.otherwiseEmpty();
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import lombok.EqualsAndHashCode;
+
+import java.util.Objects;
+
+/**
+ * The outcome of a completed {@link Future}, either a result or a failure cause.
+ * <p>
+ * Unlike a failed {@code Future}, an {@code Outcome} is a plain value that carries the cause without propagating it,
+ * so the partial results of a composition can be inspected slot by slot without creating an exception to wrap them.
+ *
+ * @param <T> the type of the result
+ * @since 1.2.0
+ */
+@EqualsAndHashCode
+public final class Outcome<T> implements AsyncResult<T> {
+    private static final Outcome<?> EMPTY = new Outcome<>(null, null);
+
+    private final T result;
+    private final Throwable cause;
+
+    private Outcome(T result, Throwable cause) {
+        this.result = result;
+        this.cause = cause;
+    }
+
+    /**
+     * Create a succeeded {@link Outcome} with the {@code result}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Outcome<T> succeeded(T result) {
+        return result == null ? (Outcome<T>) EMPTY : new Outcome<>(result, null);
+    }
+
+    /**
+     * Create a failed {@link Outcome} with the {@code cause}.
+     *
+     * @throws NullPointerException if {@code cause} is {@code null}
+     */
+    public static <T> Outcome<T> failed(Throwable cause) {
+        return new Outcome<>(null, Objects.requireNonNull(cause, "cause"));
+    }
+
+    /**
+     * Create an {@link Outcome} from a completed {@link AsyncResult} (e.g. a completed {@link Future}).
+     *
+     * @throws IllegalStateException if {@code ar} is a {@code Future} that is not completed
+     */
+    public static <T> Outcome<T> of(AsyncResult<T> ar) {
+        if (ar.succeeded()) {
+            return succeeded(ar.result());
+        } else if (ar.failed()) {
+            return failed(ar.cause());
+        }
+        throw new IllegalStateException("not completed: " + ar);
+    }
+
+    @Override
+    public T result() {
+        return result;
+    }
+
+    @Override
+    public Throwable cause() {
+        return cause;
+    }
+
+    @Override
+    public boolean succeeded() {
+        return cause == null;
+    }
+
+    @Override
+    public boolean failed() {
+        return cause != null;
+    }
+
+    @Override
+    public String toString() {
+        return succeeded() ? "Outcome{result=" + result + "}" : "Outcome{cause=" + cause.getMessage() + "}";
+    }
+}
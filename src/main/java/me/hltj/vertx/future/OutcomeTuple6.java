@@ -0,0 +1,56 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * A tuple of 6 {@link Outcome}s, the settled form of a {@link FutureTuple6}.
+ *
+ * @param <T0> the type of the result of the 1st {@code Outcome}
+ * @param <T1> the type of the result of the 2nd {@code Outcome}
+ * @param <T2> the type of the result of the 3rd {@code Outcome}
+ * @param <T3> the type of the result of the 4th {@code Outcome}
+ * @param <T4> the type of the result of the 5th {@code Outcome}
+ * @param <T5> the type of the result of the 6th {@code Outcome}
+ * @since 1.2.0
+ */
+@SuppressWarnings({"java:S116", "java:S107"})
+@Getter
+@AllArgsConstructor(staticName = "of")
+@EqualsAndHashCode
+@ToString(includeFieldNames = false)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class OutcomeTuple6<T0, T1, T2, T3, T4, T5> {
+    Outcome<T0> _0;
+    Outcome<T1> _1;
+    Outcome<T2> _2;
+    Outcome<T3> _3;
+    Outcome<T4> _4;
+    Outcome<T5> _5;
+}
@@ -26,11 +26,24 @@ import io.vertx.core.*;
 import lombok.SneakyThrows;
 import lombok.experimental.ExtensionMethod;
 import lombok.val;
+import me.hltj.vertx.concurrent.CircuitBreaker;
+import me.hltj.vertx.concurrent.LoadShedder;
+import me.hltj.vertx.concurrent.RetryPolicy;
+import me.hltj.vertx.future.CancellationToken;
+import me.hltj.vertx.future.FutureTuple2;
+import me.hltj.vertx.future.Outcome;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -325,6 +338,168 @@ class FutureUtilsTest {
         assertFalse(numbers.contains(5));
     }
 
+    @Test
+    void fallbackWith_throwingOrNull() {
+        SharedTestUtils.assertSucceedWith("default", FutureUtils.fallbackWith(
+                Future.<String>failedFuture("error"), t -> null, () -> "default"
+        ));
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, FutureUtils.<String>fallbackWith(
+                Future.failedFuture("error"), t -> {
+                    throw new IllegalStateException();
+                }, () -> "default"
+        ));
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, FutureUtils.<String>fallbackWith(
+                Future.succeededFuture(), t -> "otherwise", () -> {
+                    throw new IllegalStateException();
+                }
+        ));
+
+        SharedTestUtils.assertSucceedWith("default", FutureUtils.flatFallbackWith(
+                Future.<String>failedFuture("error"), t -> Future.succeededFuture(),
+                () -> Future.succeededFuture("default")
+        ));
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, FutureUtils.<String>flatFallbackWith(
+                Future.failedFuture("error"), t -> {
+                    throw new IllegalStateException();
+                }, () -> Future.succeededFuture("default")
+        ));
+        SharedTestUtils.assertFailedWith(NullPointerException.class, FutureUtils.<String>flatFallbackWith(
+                Future.failedFuture("error"), t -> null, () -> Future.succeededFuture("default")
+        ));
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, FutureUtils.<String>flatFallbackWith(
+                Future.succeededFuture(), t -> Future.succeededFuture("otherwise"), () -> {
+                    throw new IllegalStateException();
+                }
+        ));
+    }
+
+    @Test
+    void completed_reused() {
+        Future<String> future = Future.succeededFuture("hello");
+        assertSame(future, FutureUtils.defaultWith(future, "default"));
+        assertSame(future, FutureUtils.flatDefaultWith(future, () -> Future.succeededFuture("default")));
+        assertSame(future, FutureUtils.fallbackWith(future, "default"));
+        assertSame(future, FutureUtils.flatFallbackWith(
+                future, t -> Future.succeededFuture("otherwise"), () -> Future.succeededFuture("default")
+        ));
+        assertSame(future, FutureUtils.timeout(future, Duration.ofMillis(1)));
+
+        Future<String> emptyFuture = Future.succeededFuture();
+        assertSame(emptyFuture, FutureUtils.mapSome(emptyFuture, String::length));
+        assertSame(emptyFuture, FutureUtils.flatMapSome(emptyFuture, v -> Future.succeededFuture(v.length())));
+
+        Future<String> failedFuture = Future.failedFuture("error");
+        assertSame(failedFuture, FutureUtils.defaultWith(failedFuture, "default"));
+        assertSame(failedFuture, FutureUtils.mapSome(failedFuture, String::length));
+
+        val mapped = FutureUtils.mapSome(future, String::length);
+        assertTrue(mapped.isComplete());
+        SharedTestUtils.assertSucceedWith(5, mapped);
+        val defaulted = FutureUtils.fallbackWith(failedFuture, "default");
+        assertTrue(defaulted.isComplete());
+        SharedTestUtils.assertSucceedWith("default", defaulted);
+    }
+
+    @Test
+    void fallbackWith_pendingThrowsError() {
+        Promise<String> promise0 = Promise.promise();
+        Promise<String> promise1 = Promise.promise();
+        Promise<String> promise2 = Promise.promise();
+        val future0 = FutureUtils.fallbackWith(promise0.future(), t -> {
+            throw new AssertionError("mapper");
+        }, () -> "default");
+        val future1 = FutureUtils.flatFallbackWith(promise1.future(), t -> {
+            throw new AssertionError("mapper");
+        }, () -> Future.succeededFuture("default"));
+        val future2 = FutureUtils.flatFallbackWith(promise2.future(), t -> Future.succeededFuture("otherwise"), () -> {
+            throw new AssertionError("supplier");
+        });
+
+        promise0.fail("error");
+        promise1.fail("error");
+        promise2.complete();
+        SharedTestUtils.assertFailedWith(AssertionError.class, future0);
+        SharedTestUtils.assertFailedWith(AssertionError.class, future1);
+        SharedTestUtils.assertFailedWith(AssertionError.class, future2);
+        assertEquals("supplier", future2.cause().getMessage());
+    }
+
+    @Test
+    void flatFallbackWith_nullFuture() {
+        Promise<String> promise0 = Promise.promise();
+        Promise<String> promise1 = Promise.promise();
+        val pending0 = FutureUtils.flatFallbackWith(promise0.future(), t -> null, () -> Future.succeededFuture("a"));
+        val pending1 = FutureUtils.flatFallbackWith(promise1.future(), t -> Future.succeededFuture("b"), () -> null);
+        val completed0 = FutureUtils.flatFallbackWith(
+                Future.<String>failedFuture("error"), t -> null, () -> Future.succeededFuture("a")
+        );
+        val completed1 = FutureUtils.flatFallbackWith(
+                Future.<String>succeededFuture(), t -> Future.succeededFuture("b"), () -> null
+        );
+
+        promise0.fail("error");
+        promise1.complete();
+        for (val future : Arrays.asList(pending0, pending1, completed0, completed1)) {
+            SharedTestUtils.assertFailedWith(NullPointerException.class, future);
+            assertNull(future.cause().getMessage());
+        }
+    }
+
+    @Test
+    void fallbackWith_circuitBreaker() {
+        val breaker = CircuitBreaker.builder().failureRateThreshold(0.3).minimumCalls(1).build();
+        val calls = new ArrayList<String>();
+
+        SharedTestUtils.assertSucceedWith(1, FutureUtils.fallbackWith(() -> Future.succeededFuture(1), breaker, 0));
+        SharedTestUtils.assertSucceedWith(0, FutureUtils.fallbackWith(() -> Future.succeededFuture(), breaker, 0));
+        SharedTestUtils.assertSucceedWith(-1, FutureUtils.fallbackWith(() -> {
+            calls.add("a");
+            return Future.<Integer>failedFuture("fail");
+        }, breaker, t -> -1, () -> 0));
+
+        SharedTestUtils.assertSucceedWith("circuit breaker is open", FutureUtils.fallbackWith(() -> {
+            calls.add("b");
+            return Future.succeededFuture("value");
+        }, breaker, Throwable::getMessage, () -> "empty"));
+        SharedTestUtils.assertSucceedWith("fallback", FutureUtils.flatFallbackWith(() -> {
+            calls.add("c");
+            return Future.succeededFuture("value");
+        }, breaker, t -> Future.succeededFuture("fallback"), () -> Future.succeededFuture("empty")));
+        assertEquals(Collections.singletonList("a"), calls);
+    }
+
+    @Test
+    void fallbackWith_loadShedder() {
+        val vertx = Vertx.vertx();
+        val shedder = LoadShedder.builder(vertx).maxPending(1).build();
+        Promise<Integer> promise = Promise.promise();
+        val calls = new ArrayList<String>();
+
+        val future = FutureUtils.fallbackWith(promise::future, shedder, 0);
+        SharedTestUtils.assertSucceedWith(-1, FutureUtils.fallbackWith(() -> {
+            calls.add("a");
+            return Future.succeededFuture(1);
+        }, shedder, -1));
+        SharedTestUtils.assertSucceedWith("load shed", FutureUtils.fallbackWith(() -> {
+            calls.add("b");
+            return Future.succeededFuture("value");
+        }, shedder, Throwable::getMessage, () -> "empty"));
+        SharedTestUtils.assertSucceedWith("fallback", FutureUtils.flatFallbackWith(() -> {
+            calls.add("c");
+            return Future.succeededFuture("value");
+        }, shedder, t -> Future.succeededFuture("fallback"), () -> Future.succeededFuture("empty")));
+        assertTrue(calls.isEmpty());
+
+        promise.complete();
+        SharedTestUtils.assertSucceedWith(0, future);
+        SharedTestUtils.assertSucceedWith("empty", FutureUtils.flatFallbackWith(
+                () -> Future.succeededFuture(), shedder, t -> Future.succeededFuture("fallback"),
+                () -> Future.succeededFuture("empty")
+        ));
+        shedder.close();
+        vertx.close();
+    }
+
     @Test
     void nonEmpty() {
         SharedTestUtils.assertSucceedWith("value", Future.succeededFuture("value").nonEmpty());
@@ -398,6 +573,54 @@ class FutureUtilsTest {
         assertFalse(numbers.contains(5));
     }
 
+    @Test
+    void retry() {
+        val calls = new ArrayList<Integer>();
+        val policy = RetryPolicy.builder().maxAttempts(2).build();
+
+        SharedTestUtils.assertSucceedWith(1, FutureUtils.retry(() -> {
+            calls.add(calls.size());
+            return calls.size() < 2 ? Future.failedFuture("fail") : Future.succeededFuture(1);
+        }, policy));
+        assertEquals(Arrays.asList(0, 1), calls);
+    }
+
+    @SneakyThrows
+    @Test
+    void timeout() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(1);
+        Promise<Integer> promise0 = Promise.promise();
+        Promise<Integer> promise1 = Promise.promise();
+        val futures = new ArrayList<Future<Integer>>();
+        val tuples = new ArrayList<FutureTuple2<Integer, String>>();
+        val sizes = new ArrayList<Integer>();
+        vertx.runOnContext(v -> {
+            futures.add(FutureUtils.timeout(promise0.future(), Duration.ofMillis(20)));
+            futures.add(FutureUtils.timeout(promise1.future(), Duration.ofSeconds(10)));
+            val tuple = FutureUtils.tuple(promise0.future(), Future.succeededFuture("a"));
+            tuples.add(tuple.timeout(Duration.ofMillis(20)));
+            sizes.add(TimingWheel.current().size());
+            promise1.complete(1);
+            sizes.add(TimingWheel.current().size());
+            tuples.get(0).join().raw().onComplete(ar -> latch.countDown());
+        });
+
+        latch.await();
+        assertFailedWith(TimeoutException.class, "timed out after 20 ms", futures.get(0));
+        SharedTestUtils.assertSucceedWith(1, futures.get(1));
+        assertFailedWith(TimeoutException.class, "timed out after 20 ms", tuples.get(0).get_0());
+        SharedTestUtils.assertSucceedWith("a", tuples.get(0).get_1());
+        assertEquals(Arrays.asList(3, 2), sizes);
+
+        Future<Integer> completed = Future.succeededFuture(1);
+        assertSame(completed, FutureUtils.timeout(completed, Duration.ZERO));
+        assertFailedWith(IllegalStateException.class, "timeouts must be created on a Vert.x context",
+                FutureUtils.timeout(Promise.promise().future(), Duration.ZERO)
+        );
+        vertx.close();
+    }
+
     @Test
     void wrap() {
         SharedTestUtils.assertSucceedWith(1, FutureUtils.wrap(() -> Integer.parseInt("1")));
@@ -842,6 +1065,44 @@ class FutureUtilsTest {
         SharedTestUtils.assertSucceedWith(compositeA.raw(), compositeA.raw());
     }
 
+    @Test
+    void all_cancellation() {
+        val tokens = new ArrayList<CancellationToken>();
+        Promise<Integer> promise0 = Promise.promise();
+        val compositeA = FutureUtils.all(token -> {
+            tokens.add(token);
+            token.onCancel(promise0::tryFail);
+            return promise0.future();
+        }, token -> {
+            tokens.add(token);
+            return Future.<String>failedFuture("fail");
+        });
+
+        SharedTestUtils.assertFailedWith("fail", compositeA.raw());
+        SharedTestUtils.assertFailedWith("fail", compositeA.tuple().get_0());
+        assertSame(tokens.get(0), tokens.get(1));
+        assertTrue(tokens.get(0).isCancelled());
+
+        val compositeB = FutureUtils.all(
+                token -> Future.succeededFuture(0), token -> Future.succeededFuture("1"),
+                token -> Future.succeededFuture(2), token -> Future.succeededFuture(3),
+                token -> Future.succeededFuture(4), token -> Future.succeededFuture(5),
+                token -> Future.succeededFuture(6), token -> Future.succeededFuture(7), token -> {
+                    tokens.add(token);
+                    return Future.succeededFuture(8);
+                }
+        );
+        SharedTestUtils.assertSucceedWith(compositeB.raw(), compositeB.raw());
+        assertFalse(tokens.get(2).isCancelled());
+
+        val compositeC = FutureUtils.all(token -> Future.succeededFuture(0), token -> {
+            tokens.add(token);
+            throw new IllegalStateException("error");
+        }, token -> Future.succeededFuture(2));
+        assertFailedWith(IllegalStateException.class, "error", compositeC.raw());
+        assertTrue(tokens.get(3).isCancelled());
+    }
+
     @Test
     void any2() {
         Future<String> future0 = Future.succeededFuture();
@@ -1405,4 +1666,270 @@ class FutureUtilsTest {
         SharedTestUtils.assertSucceedWith(compositeA.raw(), compositeA.raw());
         SharedTestUtils.assertFailedWith("fail", compositeB.raw());
     }
+
+    @Test
+    void allOf() {
+        Promise<Integer> promise0 = Promise.promise();
+        Future<Integer> future1 = Future.succeededFuture(1);
+        Future<Integer> future2 = Future.succeededFuture();
+
+        val futureA = FutureUtils.allOf(Arrays.asList(promise0.future(), future1, future2));
+        assertFalse(futureA.isComplete());
+
+        promise0.complete(0);
+        SharedTestUtils.assertSucceedWith(Arrays.asList(0, 1, null), futureA);
+
+        Promise<Integer> promise3 = Promise.promise();
+        val futureB = FutureUtils.allOf(Arrays.asList(future1, promise3.future(), Future.failedFuture("fail")));
+        SharedTestUtils.assertFailedWith("fail", futureB);
+
+        SharedTestUtils.assertSucceedWith(Collections.emptyList(), FutureUtils.<Integer>allOf(Collections.emptyList()));
+    }
+
+    @Test
+    void allOf_cancellation() {
+        val token = CancellationToken.create();
+        Promise<Integer> promise0 = Promise.promise();
+        val functions = Arrays.<Function<CancellationToken, Future<Integer>>>asList(t -> {
+            t.onCancel(promise0::tryFail);
+            return promise0.future();
+        }, t -> Future.failedFuture("fail"));
+
+        val future = FutureUtils.allOf(functions, token);
+        SharedTestUtils.assertFailedWith("fail", future);
+        SharedTestUtils.assertFailedWith("fail", promise0.future());
+        assertTrue(token.isCancelled());
+
+        val token2 = CancellationToken.create();
+        val functions2 = Arrays.<Function<CancellationToken, Future<Integer>>>asList(
+                t -> Future.succeededFuture(0), t -> Future.succeededFuture(1), t -> {
+                    throw new IllegalStateException();
+                }
+        );
+        SharedTestUtils.assertSucceedWith(Arrays.asList(0, 1), FutureUtils.allOf(functions2.subList(0, 2), token2));
+        assertFalse(token2.isCancelled());
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, FutureUtils.allOf(functions2, token2));
+        assertTrue(token2.isCancelled());
+    }
+
+    @Test
+    void anyOf() {
+        Promise<Integer> promise0 = Promise.promise();
+        Promise<Integer> promise1 = Promise.promise();
+
+        val futureA = FutureUtils.anyOf(Arrays.asList(promise0.future(), promise1.future()));
+        promise0.fail("fail0");
+        assertFalse(futureA.isComplete());
+        promise1.complete(1);
+        SharedTestUtils.assertSucceedWith(1, futureA);
+
+        val futureB = FutureUtils.anyOf(Arrays.asList(
+                Future.<Integer>failedFuture("fail0"), Future.failedFuture("fail1")
+        ));
+        SharedTestUtils.assertFailedWith("fail1", futureB);
+
+        SharedTestUtils.assertSucceedWith(null, FutureUtils.<Integer>anyOf(Collections.emptyList()));
+    }
+
+    @Test
+    void joinOf() {
+        Promise<Integer> promise0 = Promise.promise();
+        Future<Integer> future1 = Future.succeededFuture(1);
+
+        val futureA = FutureUtils.joinOf(Arrays.asList(promise0.future(), future1));
+        promise0.complete(0);
+        SharedTestUtils.assertSucceedWith(Arrays.asList(0, 1), futureA);
+
+        Promise<Integer> promise2 = Promise.promise();
+        List<Future<Integer>> futures = Arrays.asList(
+                future1, Future.failedFuture("fail1"), promise2.future(), Future.failedFuture("fail3")
+        );
+        val futureB = FutureUtils.joinOf(futures);
+        assertFalse(futureB.isComplete());
+
+        promise2.fail("fail2");
+        SharedTestUtils.assertFailedWith("fail1", futureB);
+
+        SharedTestUtils.assertSucceedWith(
+                Collections.emptyList(), FutureUtils.<Integer>joinOf(Collections.emptyList())
+        );
+    }
+
+    @Test
+    void quorum() {
+        Promise<Integer> promise0 = Promise.promise();
+        Promise<Integer> promise1 = Promise.promise();
+        Promise<Integer> promise2 = Promise.promise();
+        val futures = Arrays.asList(promise0.future(), promise1.future(), promise2.future());
+
+        val futureA = FutureUtils.quorum(2, futures);
+        promise2.complete(2);
+        assertFalse(futureA.isComplete());
+        promise1.fail("fail1");
+        assertFalse(futureA.isComplete());
+        promise0.complete(null);
+        SharedTestUtils.assertSucceedWith(Arrays.asList(null, 2), futureA);
+
+        Promise<Integer> promise3 = Promise.promise();
+        Promise<Integer> promise4 = Promise.promise();
+        val futureB = FutureUtils.quorum(
+                2, Arrays.asList(promise3.future(), Future.<Integer>failedFuture("fail"), promise4.future())
+        );
+        assertFalse(futureB.isComplete());
+        promise3.fail("fail3");
+        SharedTestUtils.assertFailedWith("fail3", futureB);
+
+        SharedTestUtils.assertSucceedWith(Collections.emptyList(), FutureUtils.quorum(0, futures));
+        assertThrows(IllegalArgumentException.class, () -> FutureUtils.quorum(4, futures));
+    }
+
+    @Test
+    void allSettled() {
+        Promise<Integer> promise0 = Promise.promise();
+        val cause = new RuntimeException("fail");
+
+        val futureA = FutureUtils.allSettled(Arrays.asList(promise0.future(), Future.failedFuture(cause)));
+        assertFalse(futureA.isComplete());
+
+        promise0.complete(0);
+        SharedTestUtils.assertSucceedWith(Arrays.asList(Outcome.succeeded(0), Outcome.failed(cause)), futureA);
+        SharedTestUtils.assertSucceedWith(
+                Collections.emptyList(), FutureUtils.<Integer>allSettled(Collections.emptyList())
+        );
+    }
+
+    @Test
+    void traverse() {
+        val promises = new ArrayList<Promise<Integer>>();
+        val futureA = FutureUtils.traverse(Arrays.asList("1", "2", "3", "4", "5"), s -> {
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future().map(i -> i + Integer.parseInt(s));
+        }, 2);
+        assertEquals(2, promises.size());
+
+        promises.get(1).complete(10);
+        assertEquals(3, promises.size());
+        promises.get(0).complete(10);
+        promises.get(2).complete(10);
+        assertEquals(5, promises.size());
+        assertFalse(futureA.isComplete());
+
+        promises.get(4).complete(10);
+        promises.get(3).complete(10);
+        SharedTestUtils.assertSucceedWith(Arrays.asList(11, 12, 13, 14, 15), futureA);
+
+        val futureB = FutureUtils.traverse(Arrays.asList("1", "2", "3"), s -> Future.succeededFuture(s + s), 1);
+        SharedTestUtils.assertSucceedWith(Arrays.asList("11", "22", "33"), futureB);
+
+        val futureC = FutureUtils.traverse(Collections.<String>emptyList(), Future::succeededFuture, 1);
+        SharedTestUtils.assertSucceedWith(Collections.emptyList(), futureC);
+    }
+
+    @Test
+    void traverse_failure() {
+        val inputs = new ArrayList<String>();
+        Function<String, Future<Integer>> stringToIntFuture = s -> {
+            inputs.add(s);
+            return Future.succeededFuture(Integer.parseInt(s));
+        };
+
+        assertFailedWith(NumberFormatException.class, "For input string: \"@\"",
+                FutureUtils.traverse(Arrays.asList("1", "@", "3", "4"), stringToIntFuture, 2));
+        assertEquals(Arrays.asList("1", "@"), inputs);
+
+        Promise<Integer> promise = Promise.promise();
+        val future = FutureUtils.traverse(Arrays.asList(1, 2, 3), i -> i == 1 ? promise.future() :
+                Future.failedFuture("fail" + i), 3);
+        SharedTestUtils.assertFailedWith("fail2", future);
+        promise.complete(1);
+        SharedTestUtils.assertFailedWith("fail2", future);
+
+        assertThrows(IllegalArgumentException.class, () -> FutureUtils.traverse(inputs, stringToIntFuture, 0));
+    }
+
+    @Test
+    void completionStream() {
+        Promise<Integer> promise0 = Promise.promise();
+        Promise<Integer> promise1 = Promise.promise();
+        List<Future<Integer>> futures = Arrays.asList(promise0.future(), promise1.future());
+
+        val resultsA = new ArrayList<Integer>();
+        FutureUtils.completionStream(futures).handler(resultsA::add);
+        val resultsB = new ArrayList<Integer>();
+        val streamB = FutureUtils.completionStream(futures, 1).pause().handler(resultsB::add);
+
+        promise1.complete(1);
+        promise0.complete(0);
+        assertEquals(Arrays.asList(1, 0), resultsA);
+        assertTrue(resultsB.isEmpty());
+
+        streamB.resume();
+        assertEquals(Arrays.asList(0, 1), resultsB);
+    }
+
+    @Test
+    void batchTraverse() {
+        val batches = new ArrayList<List<String>>();
+        val promises = new ArrayList<Promise<Map<String, Integer>>>();
+        val futures = FutureUtils.<String, Integer>batchTraverse(Arrays.asList("a", "b", "c", "a", "d", "e"), keys -> {
+            batches.add(keys);
+            Promise<Map<String, Integer>> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future();
+        }, 2, 2);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), new ArrayList<>(futures.keySet()));
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d")), batches);
+
+        val map = new HashMap<String, Integer>();
+        map.put("a", 1);
+        promises.get(0).complete(map);
+        assertEquals(3, batches.size());
+        assertEquals(Arrays.asList("e"), batches.get(2));
+        SharedTestUtils.assertSucceedWith(1, futures.get("a"));
+        SharedTestUtils.assertSucceedWith(null, futures.get("b"));
+        SharedTestUtils.assertSucceedWith(2, FutureUtils.defaultWith(futures.get("b"), 2));
+        SharedTestUtils.assertFailedWith(NullPointerException.class, FutureUtils.nonEmpty(futures.get("b")));
+
+        promises.get(1).fail("fail");
+        promises.get(2).complete(null);
+        SharedTestUtils.assertFailedWith("fail", futures.get("c"));
+        SharedTestUtils.assertFailedWith("fail", futures.get("d"));
+        SharedTestUtils.assertSucceedWith(null, futures.get("e"));
+    }
+
+    @Test
+    void batchTraverse_weigher() {
+        val batches = new ArrayList<List<String>>();
+        val futures = FutureUtils.<String, Integer>batchTraverse(Arrays.asList("aaa", "b", "cc", "dddd", "e"), keys -> {
+            batches.add(keys);
+            if (keys.contains("e")) {
+                throw new IllegalStateException("e");
+            }
+            val map = new HashMap<String, Integer>();
+            keys.forEach(key -> map.put(key, key.length()));
+            return Future.succeededFuture(map);
+        }, String::length, 4, 10, 3);
+
+        assertEquals(
+                Arrays.asList(
+                        Arrays.asList("aaa", "b"), Arrays.asList("cc"), Arrays.asList("dddd"), Arrays.asList("e")
+                ),
+                batches
+        );
+        SharedTestUtils.assertSucceedWith(3, futures.get("aaa"));
+        SharedTestUtils.assertSucceedWith(4, futures.get("dddd"));
+        assertFailedWith(IllegalStateException.class, "e", futures.get("e"));
+
+        val nullFutures = FutureUtils.<String, Integer>batchTraverse(
+                Arrays.asList("a", "b", "c"), keys -> keys.contains("a") ? null : Future.succeededFuture(), 2, 1
+        );
+        SharedTestUtils.assertFailedWith(NullPointerException.class, nullFutures.get("a"));
+        SharedTestUtils.assertFailedWith(NullPointerException.class, nullFutures.get("b"));
+        SharedTestUtils.assertSucceedWith(null, nullFutures.get("c"));
+
+        assertThrows(IllegalArgumentException.class, () -> FutureUtils.batchTraverse(
+                batches.get(0), keys -> Future.succeededFuture(), 0, 1
+        ));
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TimingWheel.TICK_MILLIS);
+
+    private Vertx vertx;
+    private Context context;
+    private AtomicLong ticker;
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        context = vertx.getOrCreateContext();
+        ticker = new AtomicLong();
+        wheel = new TimingWheel(context, ticker::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void wrapAround() {
+        val fired = new ArrayList<String>();
+        long ticks = TimingWheel.WHEEL_SIZE + 88L;
+        onContext(() -> {
+            wheel.schedule(ticks * TICK_NANOS, () -> fired.add("far"));
+            return wheel.schedule(5 * TICK_NANOS, () -> fired.add("near"));
+        });
+
+        advanceTo(5);
+        assertEquals(Arrays.asList("near"), fired);
+
+        advanceTo(88);
+        advanceTo(TimingWheel.WHEEL_SIZE + 87L);
+        assertEquals(Arrays.asList("near"), fired);
+        assertEquals(1, (int) onContext(wheel::size));
+
+        advanceTo(ticks);
+        assertEquals(Arrays.asList("near", "far"), fired);
+        assertEquals(0, (int) onContext(wheel::size));
+    }
+
+    @Test
+    void cancelFromAnotherThread() {
+        val fired = new ArrayList<String>();
+        val timeout = onContext(() -> wheel.schedule(5 * TICK_NANOS, () -> fired.add("a")));
+
+        timeout.cancel();
+        assertEquals(1, (int) onContext(wheel::size));
+        assertTrue(onContext(wheel::isTicking));
+
+        advanceTo(5);
+        assertTrue(fired.isEmpty());
+        assertEquals(0, (int) onContext(wheel::size));
+        assertFalse(onContext(wheel::isTicking));
+    }
+
+    @Test
+    void scheduleFromAnotherThread() {
+        val fired = new ArrayList<String>();
+        wheel.schedule(5 * TICK_NANOS, () -> fired.add("a"));
+        val cancelled = wheel.schedule(5 * TICK_NANOS, () -> fired.add("b"));
+        cancelled.cancel();
+
+        // the cancelled timeout is either skipped by the deferred link or dropped when its bucket is visited
+        advanceTo(5);
+        assertEquals(Arrays.asList("a"), fired);
+        assertEquals(0, (int) onContext(wheel::size));
+    }
+
+    @Test
+    void stopAndRestart() {
+        val fired = new ArrayList<String>();
+        assertFalse(onContext(wheel::isTicking));
+
+        onContext(() -> wheel.schedule(5 * TICK_NANOS, () -> fired.add("a")));
+        assertTrue(onContext(wheel::isTicking));
+        advanceTo(5);
+        assertFalse(onContext(wheel::isTicking));
+
+        ticker.set(1000 * TICK_NANOS);
+        onContext(() -> wheel.schedule(5 * TICK_NANOS, () -> fired.add("b")));
+        assertTrue(onContext(wheel::isTicking));
+        advanceTo(1004);
+        assertEquals(Arrays.asList("a"), fired);
+        advanceTo(1005);
+        assertEquals(Arrays.asList("a", "b"), fired);
+        assertFalse(onContext(wheel::isTicking));
+
+        onContext(() -> {
+            wheel.schedule(5 * TICK_NANOS, () -> fired.add("c")).cancel();
+            return null;
+        });
+        assertEquals(0, (int) onContext(wheel::size));
+        assertFalse(onContext(wheel::isTicking));
+    }
+
+    @Test
+    void duplicatedContexts() {
+        Context duplicate0 = ((ContextInternal) context).duplicate();
+        Context duplicate1 = ((ContextInternal) context).duplicate();
+        long delay = TimeUnit.SECONDS.toNanos(60);
+        val shared = onContext(context, TimingWheel::current);
+
+        val timeout0 = onContext(duplicate0, () -> {
+            assertSame(shared, TimingWheel.current());
+            return shared.schedule(delay, () -> fail("cancelled"));
+        });
+        assertEquals(1, (int) onContext(duplicate1, shared::size));
+
+        onContext(duplicate1, () -> {
+            assertSame(shared, TimingWheel.current());
+            shared.schedule(delay, () -> fail("cancelled")).cancel();
+            assertEquals(1, shared.size());
+            timeout0.cancel();
+            return null;
+        });
+        assertEquals(0, (int) onContext(duplicate0, shared::size));
+        assertFalse(onContext(duplicate0, shared::isTicking));
+    }
+
+    private void advanceTo(long tick) {
+        ticker.set(tick * TICK_NANOS);
+        onContext(() -> {
+            wheel.advance();
+            return null;
+        });
+    }
+
+    private <T> T onContext(Supplier<T> supplier) {
+        return onContext(context, supplier);
+    }
+
+    @SneakyThrows
+    private static <T> T onContext(Context context, Supplier<T> supplier) {
+        val future = new CompletableFuture<T>();
+        context.runOnContext(v -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future.get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveLimiterTest {
+
+    @Test
+    void execute() {
+        val limiter = AdaptiveLimiter.builder().initialLimit(2).limitBounds(1, 4).build();
+        Promise<Integer> promiseA = Promise.promise();
+        Promise<Integer> promiseB = Promise.promise();
+        val calls = new AtomicInteger();
+
+        val futureA = limiter.execute(promiseA::future);
+        val futureB = limiter.execute(promiseB::future);
+        assertEquals(2, limiter.inFlight());
+        SharedTestUtils.assertFailedWith(RejectedException.class, limiter.execute(() -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture(1);
+        }));
+        assertEquals(0, calls.get());
+
+        promiseA.complete(1);
+        promiseB.complete(2);
+        SharedTestUtils.assertSucceedWith(1, futureA);
+        SharedTestUtils.assertSucceedWith(2, futureB);
+        assertEquals(0, limiter.inFlight());
+        assertEquals(2, limiter.limit());
+
+        SharedTestUtils.assertSucceedWith(3, limiter.execute(() -> Future.succeededFuture(3)));
+        assertEquals(3, limiter.limit());
+        for (int i = 0; i < 100; i++) {
+            limiter.execute(() -> Future.succeededFuture(0));
+        }
+        assertEquals(3, limiter.limit());
+
+        SharedTestUtils.assertFailedWith("fail", limiter.execute(() -> Future.failedFuture("fail")));
+        assertEquals(2, limiter.limit());
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, limiter.execute(() -> {
+            throw new IllegalStateException();
+        }));
+        for (int i = 0; i < 10; i++) {
+            limiter.execute(() -> Future.failedFuture("fail"));
+        }
+        assertEquals(1, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void latencyThreshold() {
+        val ticker = new AtomicLong();
+        val limiter = AdaptiveLimiter.builder().initialLimit(10).latencyThreshold(Duration.ofMillis(100))
+                .ticker(ticker::get).build();
+        Promise<Integer> promise = Promise.promise();
+
+        val future = limiter.execute(promise::future);
+        ticker.set(Duration.ofMillis(101).toNanos());
+        promise.complete(1);
+        SharedTestUtils.assertSucceedWith(1, future);
+        assertEquals(9, limiter.limit());
+
+        assertEquals(1000, AdaptiveLimiter.builder().initialLimit(2000).build().limit());
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder().limitBounds(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder().limitBounds(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveLimiter.builder().backoffRatio(1));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCacheTest {
+
+    @Test
+    void shareAndMemoize() {
+        val promises = new ArrayList<Promise<Integer>>();
+        val cache = AsyncCache.<String, Integer>builder(key -> {
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future();
+        }).build();
+
+        val futureA = cache.get("a");
+        assertSame(futureA, cache.get("a"));
+        assertEquals(1, promises.size());
+
+        promises.get(0).complete(1);
+        SharedTestUtils.assertSucceedWith(1, cache.get("a"));
+        val futureB = FutureUtils.flatMapSome(Future.succeededFuture("a"), cache::get);
+        SharedTestUtils.assertSucceedWith(1, futureB);
+        assertEquals(1, promises.size());
+
+        cache.invalidate("a");
+        assertNotSame(futureA, cache.get("a"));
+        assertEquals(2, promises.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expireAfterWrite() {
+        val ticker = new AtomicLong();
+        val loads = new ArrayList<String>();
+        val cache = AsyncCache.<String, Integer>builder(key -> {
+            loads.add(key);
+            return Future.succeededFuture(key.isEmpty() ? null : key.length());
+        }).expireAfterWrite(Duration.ofNanos(100)).expireEmptyAfterWrite(Duration.ofNanos(10))
+                .ticker(ticker::get).build();
+
+        SharedTestUtils.assertSucceedWith(1, cache.get("a"));
+        SharedTestUtils.assertSucceedWith(null, cache.get(""));
+        ticker.set(50);
+        SharedTestUtils.assertSucceedWith(1, cache.get("a"));
+        SharedTestUtils.assertSucceedWith(null, cache.get(""));
+        assertEquals(Arrays.asList("a", "", ""), loads);
+
+        ticker.set(100);
+        SharedTestUtils.assertSucceedWith(1, cache.get("a"));
+        assertEquals(Arrays.asList("a", "", "", "a"), loads);
+    }
+
+    @Test
+    void failure() {
+        val ticker = new AtomicLong();
+        val loads = new ArrayList<String>();
+        val cacheA = AsyncCache.<String, Integer>builder(key -> {
+            loads.add(key);
+            return Future.succeededFuture(Integer.parseInt(key));
+        }).ticker(ticker::get).build();
+
+        SharedTestUtils.assertFailedWith(NumberFormatException.class, cacheA.get("@"));
+        SharedTestUtils.assertFailedWith(NumberFormatException.class, cacheA.get("@"));
+        assertEquals(2, loads.size());
+        assertEquals(0, cacheA.size());
+
+        val cacheB = AsyncCache.<String, Integer>builder(key -> {
+            loads.add(key);
+            return Future.failedFuture("fail");
+        }).expireFailureAfterWrite(Duration.ofNanos(10)).expireEmptyAfterWrite(Duration.ZERO)
+                .ticker(ticker::get).build();
+
+        SharedTestUtils.assertFailedWith("fail", cacheB.get("b"));
+        SharedTestUtils.assertFailedWith("fail", cacheB.get("b"));
+        assertEquals(3, loads.size());
+        ticker.set(10);
+        SharedTestUtils.assertFailedWith("fail", cacheB.get("b"));
+        assertEquals(4, loads.size());
+    }
+
+    @Test
+    void maximumSize() {
+        val loads = new ArrayList<String>();
+        val cache = AsyncCache.<String, String>builder(key -> {
+            loads.add(key);
+            return Future.succeededFuture(key);
+        }).maximumSize(2).build();
+
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+        assertEquals(2, cache.size());
+        assertEquals(Arrays.asList("a", "b", "c"), loads);
+
+        cache.get("a");
+        assertEquals(Arrays.asList("a", "b", "c"), loads);
+        cache.get("b");
+        assertEquals(Arrays.asList("a", "b", "c", "b"), loads);
+
+        assertThrows(IllegalArgumentException.class, () -> AsyncCache.builder(cache::get).maximumSize(0));
+    }
+
+    @Test
+    void clockBounded() {
+        val ticker = new AtomicLong();
+        val cache = AsyncCache.<Integer, Integer>builder(key -> key % 2 == 0
+                ? Future.succeededFuture(key)
+                : Future.failedFuture("fail")
+        ).maximumSize(1000).expireAfterWrite(Duration.ofNanos(10)).ticker(ticker::get).build();
+
+        for (int i = 0; i < 10000; i++) {
+            cache.get(i);
+            if (i % 4 == 0) {
+                cache.invalidate(i);
+            }
+        }
+        assertTrue(cache.clockSize() <= 2 * cache.size() + 2, () -> "clock size: " + cache.clockSize());
+
+        ticker.set(10);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(-i);
+        }
+        assertTrue(cache.size() <= 1000, () -> "size: " + cache.size());
+        assertTrue(cache.clockSize() <= 2 * cache.size() + 2, () -> "clock size: " + cache.clockSize());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.clockSize());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncSemaphoreTest {
+
+    @Test
+    void execute() {
+        val semaphore = AsyncSemaphore.create(2, 1);
+        val promises = new ArrayList<Promise<Integer>>();
+        val calls = new ArrayList<String>();
+
+        val futureA = semaphore.execute(() -> {
+            calls.add("a");
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future();
+        });
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, semaphore.execute(() -> {
+            throw new IllegalStateException();
+        }));
+        val futureB = semaphore.execute(() -> {
+            calls.add("b");
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future();
+        });
+        assertEquals(0, semaphore.available());
+
+        val futureC = semaphore.execute(() -> {
+            calls.add("c");
+            return Future.succeededFuture(3);
+        });
+        assertEquals(1, semaphore.queued());
+        val futureD = semaphore.execute(() -> {
+            calls.add("d");
+            return Future.succeededFuture(4);
+        });
+        SharedTestUtils.assertFailedWith(RejectedException.class, futureD);
+        assertFalse(futureC.isComplete());
+        assertEquals(Arrays.asList("a", "b"), calls);
+
+        promises.get(1).fail("fail");
+        SharedTestUtils.assertFailedWith("fail", futureB);
+        SharedTestUtils.assertSucceedWith(3, futureC);
+        assertEquals(Arrays.asList("a", "b", "c"), calls);
+        assertEquals(1, semaphore.available());
+        assertEquals(0, semaphore.queued());
+
+        promises.get(0).complete(1);
+        SharedTestUtils.assertSucceedWith(1, futureA);
+        assertEquals(2, semaphore.available());
+
+        assertThrows(IllegalArgumentException.class, () -> AsyncSemaphore.create(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> AsyncSemaphore.create(1, -1));
+    }
+
+    @Test
+    void fifo() {
+        val semaphore = AsyncSemaphore.create(1, 10_000);
+        Promise<Integer> promise = Promise.promise();
+        val calls = new ArrayList<Integer>();
+
+        semaphore.execute(promise::future);
+        val futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 10_000; i++) {
+            int index = i;
+            futures.add(semaphore.execute(() -> {
+                calls.add(index);
+                return Future.succeededFuture(index);
+            }));
+        }
+        assertTrue(calls.isEmpty());
+
+        promise.complete(0);
+        assertEquals(10_000, calls.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, calls.get(i));
+            SharedTestUtils.assertSucceedWith(i, futures.get(i));
+        }
+        assertEquals(1, semaphore.available());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private static Future<Map<String, Integer>> lengths(List<String> keys) {
+        val map = new HashMap<String, Integer>();
+        keys.stream().filter(key -> !key.isEmpty()).forEach(key -> map.put(key, key.length()));
+        return Future.succeededFuture(map);
+    }
+
+    @SneakyThrows
+    @Test
+    void coalesce() {
+        val vertx = Vertx.vertx();
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val loader = BatchLoader.<String, Integer>of(keys -> {
+            batches.add(new ArrayList<>(keys));
+            return lengths(keys);
+        });
+
+        val latch = new CountDownLatch(1);
+        val futures = new ArrayList<Future<Integer>>();
+        vertx.runOnContext(v -> {
+            futures.add(loader.load("a"));
+            futures.add(FutureUtils.mapSome(loader.load("bb"), i -> i * 10));
+            futures.add(loader.load("a"));
+            futures.add(FutureUtils.defaultWith(loader.load(""), -1));
+            CompositeFuture.all(new ArrayList<>(futures)).onComplete(ar -> vertx.runOnContext(x -> {
+                futures.add(loader.load("ccc"));
+                futures.get(4).onComplete(y -> latch.countDown());
+            }));
+        });
+
+        latch.await();
+        assertEquals(Arrays.asList(Arrays.asList("a", "bb", ""), Collections.singletonList("ccc")), batches);
+        SharedTestUtils.assertSucceedWith(1, futures.get(0));
+        SharedTestUtils.assertSucceedWith(20, futures.get(1));
+        SharedTestUtils.assertSucceedWith(1, futures.get(2));
+        SharedTestUtils.assertSucceedWith(-1, futures.get(3));
+        SharedTestUtils.assertSucceedWith(3, futures.get(4));
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void maxBatchSize() {
+        val vertx = Vertx.vertx();
+        val batches = new CopyOnWriteArrayList<List<String>>();
+        val loader = BatchLoader.<String, Integer>of(keys -> {
+            batches.add(new ArrayList<>(keys));
+            if (keys.contains("!")) {
+                return Future.failedFuture("fail");
+            }
+            return lengths(keys);
+        }, 2);
+
+        val latch = new CountDownLatch(1);
+        val futures = new ArrayList<Future<Integer>>();
+        vertx.runOnContext(v -> {
+            futures.add(loader.load("a"));
+            futures.add(loader.load("bb"));
+            futures.add(loader.load("!"));
+            CompositeFuture.join(new ArrayList<>(futures)).onComplete(ar -> latch.countDown());
+        });
+
+        latch.await();
+        assertEquals(Arrays.asList(Arrays.asList("a", "bb"), Collections.singletonList("!")), batches);
+        SharedTestUtils.assertSucceedWith(2, futures.get(1));
+        SharedTestUtils.assertFailedWith("fail", futures.get(2));
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.of(BatchLoaderTest::lengths, 0));
+        vertx.close();
+    }
+
+    @Test
+    void withoutContext() {
+        val batches = new ArrayList<List<String>>();
+        val loader = BatchLoader.<String, Integer>of(keys -> {
+            batches.add(new ArrayList<>(keys));
+            return lengths(keys);
+        });
+
+        SharedTestUtils.assertSucceedWith(1, loader.load("a"));
+        SharedTestUtils.assertSucceedWith(null, loader.load(""));
+        assertEquals(Arrays.asList(Collections.singletonList("a"), Collections.singletonList("")), batches);
+    }
+}
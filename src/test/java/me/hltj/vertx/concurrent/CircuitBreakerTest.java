@@ -0,0 +1,157 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void execute() {
+        val ticker = new AtomicLong();
+        val calls = new AtomicInteger();
+        val breaker = CircuitBreaker.builder().failureRateThreshold(0.5).minimumCalls(4)
+                .window(Duration.ofSeconds(10)).openDuration(Duration.ofSeconds(5)).ticker(ticker::get).build();
+
+        SharedTestUtils.assertSucceedWith(1, breaker.execute(() -> Future.succeededFuture(1)));
+        SharedTestUtils.assertSucceedWith(null, breaker.execute(() -> Future.succeededFuture()));
+        SharedTestUtils.assertFailedWith("fail", breaker.execute(() -> Future.failedFuture("fail")));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, breaker.execute(() -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        SharedTestUtils.assertFailedWith(CircuitBreakerOpenException.class, breaker.execute(() -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture(1);
+        }));
+        assertEquals(0, calls.get());
+
+        ticker.set(Duration.ofSeconds(5).toNanos());
+        Promise<Integer> promise = Promise.promise();
+        val trial = breaker.execute(promise::future);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquire() < 0);
+        promise.fail("fail");
+        SharedTestUtils.assertFailedWith("fail", trial);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        ticker.set(Duration.ofSeconds(10).toNanos());
+        SharedTestUtils.assertSucceedWith(1, breaker.execute(() -> Future.succeededFuture(1)));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        SharedTestUtils.assertFailedWith("fail", breaker.execute(() -> Future.failedFuture("fail")));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void window() {
+        val ticker = new AtomicLong();
+        val breaker = CircuitBreaker.builder().minimumCalls(2).window(Duration.ofSeconds(10)).ticker(ticker::get)
+                .build();
+
+        breaker.record(breaker.tryAcquire(), false);
+        ticker.set(Duration.ofSeconds(11).toNanos());
+        breaker.record(breaker.tryAcquire(), true);
+        breaker.record(breaker.tryAcquire(), false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        val breakerB = CircuitBreaker.builder().minimumCalls(2).window(Duration.ofSeconds(10)).ticker(ticker::get)
+                .build();
+        breakerB.record(breakerB.tryAcquire(), false);
+        ticker.set(Duration.ofSeconds(22).toNanos());
+        breakerB.record(breakerB.tryAcquire(), false);
+        assertEquals(CircuitBreaker.State.CLOSED, breakerB.state());
+
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().minimumCalls(0));
+    }
+
+    @Test
+    void staleOutcome() {
+        val ticker = new AtomicLong();
+        val breaker = CircuitBreaker.builder().minimumCalls(1).openDuration(Duration.ofSeconds(5)).ticker(ticker::get)
+                .build();
+        Promise<Integer> stale = Promise.promise();
+        val staleFuture = breaker.guard(stale.future());
+
+        breaker.record(breaker.tryAcquire(), false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        ticker.set(Duration.ofSeconds(5).toNanos());
+        Promise<Integer> trial = Promise.promise();
+        breaker.guard(trial.future());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        stale.complete(1);
+        SharedTestUtils.assertSucceedWith(1, staleFuture);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        trial.fail("fail");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void trialTimeout() {
+        val ticker = new AtomicLong();
+        val breaker = CircuitBreaker.builder().minimumCalls(1).openDuration(Duration.ofSeconds(5)).ticker(ticker::get)
+                .build();
+        breaker.record(breaker.tryAcquire(), false);
+
+        ticker.set(Duration.ofSeconds(5).toNanos());
+        Promise<Integer> lost = Promise.promise();
+        breaker.guard(lost.future());
+        ticker.set(Duration.ofSeconds(9).toNanos());
+        assertTrue(breaker.tryAcquire() < 0);
+
+        ticker.set(Duration.ofSeconds(10).toNanos());
+        Promise<Integer> trial = Promise.promise();
+        breaker.guard(trial.future());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        lost.fail("fail");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        trial.complete(1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void guard() {
+        val breaker = CircuitBreaker.builder().minimumCalls(1).build();
+        Promise<Integer> promise = Promise.promise();
+
+        assertSame(promise.future(), breaker.guard(promise.future()));
+        promise.fail("fail");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        SharedTestUtils.assertFailedWith(
+                CircuitBreakerOpenException.class, breaker.guard(Promise.<Integer>promise().future())
+        );
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgePolicyTest {
+
+    @SneakyThrows
+    @Test
+    void delay() {
+        val vertx = Vertx.vertx();
+        val ticker = new AtomicLong();
+        val policy = HedgePolicy.builder().percentile(0.5).delayBounds(Duration.ofMillis(2), Duration.ofMillis(500))
+                .ticker(ticker::get).build();
+        assertEquals(Duration.ofMillis(500), policy.delay());
+
+        val futures = new CopyOnWriteArrayList<Future<Integer>>();
+        val latch = new CountDownLatch(1);
+        vertx.runOnContext(v -> {
+            futures.add(policy.execute(() -> {
+                ticker.addAndGet(Duration.ofMillis(100).toNanos());
+                return Future.succeededFuture(1);
+            }));
+            futures.add(policy.execute(() -> Future.failedFuture("fail")));
+            latch.countDown();
+        });
+        latch.await();
+        vertx.close();
+
+        SharedTestUtils.assertSucceedWith(1, futures.get(0));
+        long delay = policy.delay().toMillis();
+        assertTrue(delay >= 100 && delay < 113, "delay: " + delay);
+
+        SharedTestUtils.assertFailedWith("fail", futures.get(1));
+        assertThrows(IllegalArgumentException.class, () -> HedgePolicy.builder().percentile(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                HedgePolicy.builder().delayBounds(Duration.ofMillis(2), Duration.ofMillis(1))
+        );
+    }
+
+    @SneakyThrows
+    @Test
+    void hedge() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(2);
+        val policy = HedgePolicy.builder().delayBounds(Duration.ofMillis(1), Duration.ofMillis(20))
+                .budget(RetryBudget.create(1, 0)).build();
+        val promises = new CopyOnWriteArrayList<Promise<Integer>>();
+        val futures = new CopyOnWriteArrayList<Future<Integer>>();
+
+        vertx.runOnContext(v -> {
+            futures.add(policy.execute(() -> {
+                Promise<Integer> promise = Promise.promise();
+                promises.add(promise);
+                if (promises.size() == 2) {
+                    promise.complete(2);
+                }
+                return promise.future();
+            }));
+            futures.add(policy.execute(() -> Future.failedFuture("fail")));
+            futures.get(0).onComplete(ar -> latch.countDown());
+            vertx.setTimer(60, id -> latch.countDown());
+        });
+
+        latch.await();
+        assertEquals(2, promises.size());
+        SharedTestUtils.assertSucceedWith(2, futures.get(0));
+        SharedTestUtils.assertFailedWith("fail", futures.get(1));
+        assertEquals(0, countHedged(policy, vertx));
+        vertx.close();
+    }
+
+    @Test
+    void outsideContext() {
+        val budget = RetryBudget.create(1, 0);
+        val policy = HedgePolicy.builder().budget(budget).build();
+        val calls = new AtomicInteger();
+
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, policy.execute(() -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture(1);
+        }));
+        assertEquals(0, calls.get());
+        assertEquals(1, budget.available());
+    }
+
+    @SneakyThrows
+    private static int countHedged(HedgePolicy policy, Vertx vertx) {
+        List<Integer> calls = new CopyOnWriteArrayList<>();
+        val latch = new CountDownLatch(1);
+        vertx.runOnContext(v -> {
+            policy.execute(() -> {
+                calls.add(1);
+                return Promise.<Integer>promise().future();
+            });
+            vertx.setTimer(60, id -> latch.countDown());
+        });
+        latch.await();
+        return calls.size() - 1;
+    }
+}
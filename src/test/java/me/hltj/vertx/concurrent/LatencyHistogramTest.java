@@ -0,0 +1,61 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void buckets() {
+        for (long micros : new long[]{0, 1, 7, 8, 9, 15, 16, 17, 100, 1000, 123456789}) {
+            int index = LatencyHistogram.index(micros);
+            assertTrue(LatencyHistogram.upperBound(index) >= micros);
+            assertTrue(index == 0 || LatencyHistogram.upperBound(index - 1) < micros);
+        }
+    }
+
+    @Test
+    void percentile() {
+        val histogram = new LatencyHistogram(TimeUnit.SECONDS.toNanos(4));
+        assertEquals(-1, histogram.percentile(0.5, 0));
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i), 0);
+        }
+        long p50 = histogram.percentile(0.5, 0);
+        long p99 = histogram.percentile(0.99, 0);
+        assertTrue(p50 >= TimeUnit.MILLISECONDS.toNanos(50) && p50 < TimeUnit.MILLISECONDS.toNanos(57), "p50: " + p50);
+        assertTrue(p99 >= TimeUnit.MILLISECONDS.toNanos(99) && p99 < TimeUnit.MILLISECONDS.toNanos(112), "p99: " + p99);
+
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(3));
+        assertEquals(p50, histogram.percentile(0.5, TimeUnit.SECONDS.toNanos(3)));
+        assertTrue(histogram.percentile(0.5, TimeUnit.SECONDS.toNanos(4)) < TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(-1, histogram.percentile(0.5, TimeUnit.SECONDS.toNanos(7)));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadShedderTest {
+
+    @Test
+    void maxPending() {
+        val vertx = Vertx.vertx();
+        val shedder = LoadShedder.builder(vertx).maxPending(1).build();
+        Promise<Integer> promise = Promise.promise();
+        val calls = new AtomicInteger();
+
+        val future = shedder.execute(promise::future);
+        assertEquals(1, shedder.pending());
+        val shedA = shedder.execute(() -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture(1);
+        });
+        val shedB = shedder.<String>execute(() -> Future.succeededFuture("b"));
+        SharedTestUtils.assertFailedWith(RejectedException.class, shedA);
+        assertSame(shedA, shedB);
+        assertEquals(0, calls.get());
+
+        promise.complete(0);
+        SharedTestUtils.assertSucceedWith(0, future);
+        assertEquals(0, shedder.pending());
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, shedder.execute(() -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, shedder.pending());
+
+        assertThrows(IllegalArgumentException.class, () -> LoadShedder.builder(vertx).maxPending(0));
+        assertThrows(IllegalArgumentException.class, () -> LoadShedder.builder(vertx).probeInterval(Duration.ZERO));
+        shedder.close();
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void lag() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(1);
+        val shedders = new ArrayList<LoadShedder>();
+        val futures = new ArrayList<Future<Integer>>();
+
+        vertx.runOnContext(v -> {
+            val shedder = LoadShedder.builder(vertx).probeInterval(Duration.ofMillis(100))
+                    .maxLag(Duration.ofMillis(100)).build();
+            shedders.add(shedder);
+            futures.add(shedder.execute(() -> Future.succeededFuture(0)));
+            sleep(400);
+            vertx.setTimer(1, id -> {
+                futures.add(shedder.execute(() -> Future.succeededFuture(1)));
+                latch.countDown();
+            });
+        });
+
+        latch.await();
+        val shedder = shedders.get(0);
+        SharedTestUtils.assertSucceedWith(0, futures.get(0));
+        SharedTestUtils.assertFailedWith(RejectedException.class, futures.get(1));
+        assertTrue(shedder.lag().toMillis() >= 100);
+
+        for (int i = 0; i < 100 && shedder.lag().toMillis() >= 100; i++) {
+            Thread.sleep(10);
+        }
+        SharedTestUtils.assertSucceedWith(2, shedder.execute(() -> Future.succeededFuture(2)));
+        shedder.close();
+        vertx.close();
+    }
+
+    @SneakyThrows
+    private static void sleep(long millis) {
+        Thread.sleep(millis);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrioritySchedulerTest {
+
+    @Test
+    void submit() {
+        val ticker = new AtomicLong();
+        val scheduler = PriorityScheduler.builder().maxConcurrency(1).maxQueued(4).ticker(ticker::get).build();
+        Promise<Integer> promise = Promise.promise();
+        val calls = new ArrayList<String>();
+
+        val future = scheduler.submit(0, promise::future);
+        val futureLow = scheduler.submit(0, () -> {
+            calls.add("low");
+            return Future.succeededFuture(0);
+        });
+        val futureHigh = scheduler.submit(10, () -> {
+            calls.add("high");
+            return Future.succeededFuture(10);
+        });
+        val futureHighB = FutureUtils.mapSome(scheduler.submit(10, () -> {
+            calls.add("highB");
+            return Future.succeededFuture(10);
+        }), x -> x + 1);
+        val futureFailed = scheduler.submit(5, () -> {
+            calls.add("failed");
+            throw new IllegalStateException();
+        });
+        SharedTestUtils.assertFailedWith(RejectedException.class, scheduler.submit(100, () -> {
+            calls.add("rejected");
+            return Future.succeededFuture(100);
+        }));
+        assertEquals(4, scheduler.queued());
+        assertTrue(calls.isEmpty());
+
+        promise.complete(-1);
+        SharedTestUtils.assertSucceedWith(-1, future);
+        assertEquals(Arrays.asList("high", "highB", "failed", "low"), calls);
+        SharedTestUtils.assertSucceedWith(0, futureLow);
+        SharedTestUtils.assertSucceedWith(10, futureHigh);
+        SharedTestUtils.assertSucceedWith(11, futureHighB);
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, futureFailed);
+        assertEquals(1, scheduler.available());
+        assertEquals(0, scheduler.queued());
+    }
+
+    @Test
+    void aging() {
+        val ticker = new AtomicLong();
+        val scheduler = PriorityScheduler.builder().maxConcurrency(1).agingInterval(Duration.ofNanos(100))
+                .ticker(ticker::get).build();
+        Promise<Integer> promise = Promise.promise();
+        val calls = new ArrayList<String>();
+
+        scheduler.submit(0, promise::future);
+        scheduler.submit(0, () -> {
+            calls.add("old");
+            return Future.succeededFuture();
+        });
+        ticker.set(250);
+        scheduler.submit(2, () -> {
+            calls.add("new");
+            return Future.succeededFuture();
+        });
+        scheduler.submit(3, () -> {
+            calls.add("newer");
+            return Future.succeededFuture();
+        });
+        promise.complete();
+        assertEquals(Arrays.asList("newer", "old", "new"), calls);
+
+        assertThrows(IllegalArgumentException.class, () -> PriorityScheduler.builder().maxConcurrency(0));
+        assertThrows(IllegalArgumentException.class, () -> PriorityScheduler.builder().maxQueued(-1));
+    }
+}
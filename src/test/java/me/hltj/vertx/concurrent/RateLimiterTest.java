@@ -0,0 +1,142 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @SneakyThrows
+    @Test
+    void futurize() {
+        val vertx = Vertx.vertx();
+        val limiter = RateLimiter.builder(vertx).limitForPeriod(2, Duration.ofMillis(50)).maxQueued(2).build();
+        val latch = new CountDownLatch(1);
+        val calls = new ArrayList<Integer>();
+        val futures = new ArrayList<Future<Integer>>();
+        val queued = new ArrayList<Integer>();
+
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 5; i++) {
+                futures.add(FutureUtils.futurize(call(calls, i), limiter));
+            }
+            futures.add(limiter.tryFuturize(call(calls, 5)));
+            queued.add(limiter.queued());
+            queued.add(limiter.available());
+            futures.get(3).onComplete(ar -> latch.countDown());
+        });
+
+        latch.await();
+        assertEquals(Arrays.asList(2, 0), queued);
+        assertEquals(Arrays.asList(0, 1, 2, 3), calls);
+        for (int i = 0; i < 4; i++) {
+            SharedTestUtils.assertSucceedWith(i, futures.get(i));
+        }
+        SharedTestUtils.assertFailedWith(RejectedException.class, futures.get(4));
+        SharedTestUtils.assertFailedWith(RejectedException.class, futures.get(5));
+
+        for (int i = 0; i < 100 && limiter.available() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, limiter.available());
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void failFast() {
+        val vertx = Vertx.vertx();
+        val limiter = RateLimiter.builder(vertx).limitForPeriod(1, Duration.ofMillis(10)).burst(1).maxQueued(0)
+                .build();
+        val calls = new ArrayList<Integer>();
+
+        SharedTestUtils.assertSucceedWith(0, limiter.futurize(call(calls, 0)));
+        SharedTestUtils.assertFailedWith(RejectedException.class, limiter.futurize(call(calls, 1)));
+        assertEquals(0, limiter.queued());
+        assertEquals(Arrays.asList(0), calls);
+
+        for (int i = 0; i < 100 && limiter.available() < 1; i++) {
+            Thread.sleep(10);
+        }
+        SharedTestUtils.assertSucceedWith(2, limiter.tryFuturize(call(calls, 2)));
+
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder(vertx).limitForPeriod(0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder(vertx).burst(0));
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder(vertx).maxQueued(-1));
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void undeployFirstCaller() {
+        val vertx = Vertx.vertx();
+        val limiter = RateLimiter.builder(vertx).limitForPeriod(1, Duration.ofMillis(10)).burst(1).build();
+        val calls = new CopyOnWriteArrayList<Integer>();
+        val futures = new CopyOnWriteArrayList<Future<Integer>>();
+
+        String deploymentId = vertx.deployVerticle(new AbstractVerticle() {
+            @Override
+            public void start() {
+                futures.add(limiter.futurize(call(calls, 0)));
+            }
+        }).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        vertx.undeploy(deploymentId).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        futures.add(limiter.futurize(call(calls, 1)));
+        futures.add(limiter.futurize(call(calls, 2)));
+        for (int i = 0; i < 100 && !futures.get(2).isComplete(); i++) {
+            Thread.sleep(10);
+        }
+        for (int i = 0; i < 3; i++) {
+            SharedTestUtils.assertSucceedWith(i, futures.get(i));
+        }
+        vertx.close();
+    }
+
+    private static Consumer<Handler<AsyncResult<Integer>>> call(List<Integer> calls, int i) {
+        return handler -> {
+            calls.add(i);
+            handler.handle(Future.succeededFuture(i));
+        };
+    }
+}
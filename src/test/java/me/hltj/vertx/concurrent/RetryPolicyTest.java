@@ -0,0 +1,182 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    @Test
+    void execute() {
+        val calls = new AtomicInteger();
+        val policy = RetryPolicy.builder().build();
+
+        SharedTestUtils.assertSucceedWith(3, policy.execute(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("error" + calls.get());
+            }
+            return Future.succeededFuture(calls.get());
+        }));
+
+        calls.set(0);
+        SharedTestUtils.assertFailedWith("fail3", policy.execute(() ->
+                Future.failedFuture("fail" + calls.incrementAndGet())
+        ));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void retryOn() {
+        val calls = new AtomicInteger();
+        val policy = RetryPolicy.builder().maxAttempts(5).retryOn(IllegalStateException.class).build();
+
+        SharedTestUtils.assertFailedWith(IllegalArgumentException.class, policy.execute(() -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(1, calls.get());
+
+        assertThrows(IllegalArgumentException.class, () -> RetryPolicy.builder().maxAttempts(0));
+    }
+
+    @Test
+    void retryOnThrows() {
+        val calls = new AtomicInteger();
+        val policy = RetryPolicy.builder().retryOn(t -> {
+            throw new IllegalStateException("predicate");
+        }).build();
+
+        val future = policy.execute(() -> {
+            calls.incrementAndGet();
+            return Future.failedFuture("fail");
+        });
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, future);
+        assertEquals("predicate", future.cause().getMessage());
+        assertEquals("fail", future.cause().getSuppressed()[0].getMessage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void retryOnRethrows() {
+        val policy = RetryPolicy.builder().retryOn(t -> {
+            throw (IllegalStateException) t;
+        }).build();
+        val cause = new IllegalStateException("fail");
+        Promise<Integer> promise = Promise.promise();
+
+        val future = policy.execute(promise::future);
+        promise.fail(cause);
+        assertSame(cause, future.cause());
+        assertEquals(0, cause.getSuppressed().length);
+
+        assertSame(cause, policy.execute(() -> Future.failedFuture(cause)).cause());
+    }
+
+    @Test
+    void budget() {
+        val calls = new AtomicInteger();
+        val budget = RetryBudget.create(1, 0.5);
+        val policyA = RetryPolicy.builder().maxAttempts(3).budget(budget).build();
+        val policyB = RetryPolicy.builder().maxAttempts(3).budget(budget).build();
+
+        val supplier = (Supplier<Future<Integer>>) () -> {
+            calls.incrementAndGet();
+            return Future.failedFuture("fail");
+        };
+
+        SharedTestUtils.assertFailedWith("fail", policyA.execute(supplier));
+        assertEquals(2, calls.get());
+        assertEquals(0, budget.available());
+
+        SharedTestUtils.assertFailedWith("fail", policyB.execute(supplier));
+        assertEquals(3, calls.get());
+        SharedTestUtils.assertFailedWith("fail", policyA.execute(supplier));
+        assertEquals(5, calls.get());
+        assertEquals(0, budget.available());
+    }
+
+    @SneakyThrows
+    @Test
+    void backoff() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(1);
+        val times = new ArrayList<Long>();
+        val futures = new ArrayList<Future<Integer>>();
+        val policy = RetryPolicy.builder().maxAttempts(3).jitter(false)
+                .exponentialBackoff(Duration.ofMillis(20), Duration.ofMillis(30)).build();
+
+        vertx.runOnContext(v -> {
+            futures.add(policy.execute(() -> {
+                times.add(System.nanoTime());
+                return Future.failedFuture("fail");
+            }));
+            futures.get(0).onComplete(ar -> latch.countDown());
+        });
+
+        latch.await();
+        SharedTestUtils.assertFailedWith("fail", futures.get(0));
+        assertEquals(3, times.size());
+        assertTrue(times.get(1) - times.get(0) >= Duration.ofMillis(20).toNanos());
+        assertTrue(times.get(2) - times.get(1) >= Duration.ofMillis(30).toNanos());
+
+        val calls = new AtomicInteger();
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, policy.execute(() -> {
+            calls.incrementAndGet();
+            return Future.succeededFuture(1);
+        }));
+        assertEquals(0, calls.get());
+
+        val latch2 = new CountDownLatch(1);
+        val tinyDelay = RetryPolicy.builder().maxAttempts(2)
+                .exponentialBackoff(Duration.ofNanos(1), Duration.ofNanos(1)).build();
+        val completedSynchronously = new ArrayList<Boolean>();
+        vertx.runOnContext(v -> {
+            futures.add(tinyDelay.execute(() -> Future.failedFuture("fail")));
+            completedSynchronously.add(futures.get(1).isComplete());
+            futures.get(1).onComplete(ar -> latch2.countDown());
+        });
+
+        latch2.await();
+        assertFalse(completedSynchronously.get(0));
+        SharedTestUtils.assertFailedWith("fail", futures.get(1));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                RetryPolicy.builder().exponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(2), 0.5)
+        );
+        vertx.close();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.concurrent;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void execute() {
+        val singleFlight = SingleFlight.<String, Integer>create();
+        val promises = new ArrayList<Promise<Integer>>();
+
+        val futureA = singleFlight.execute("a", () -> {
+            Promise<Integer> promise = Promise.promise();
+            promises.add(promise);
+            return promise.future();
+        });
+        val futureB = singleFlight.execute("a", key -> Future.succeededFuture(0));
+        assertSame(futureA, futureB);
+        assertEquals(1, promises.size());
+        assertEquals(1, singleFlight.size());
+
+        SharedTestUtils.assertSucceedWith(1, singleFlight.execute("b", key -> Future.succeededFuture(1)));
+        assertEquals(1, singleFlight.size());
+
+        promises.get(0).complete(2);
+        SharedTestUtils.assertSucceedWith(2, futureA);
+        assertEquals(0, singleFlight.size());
+        SharedTestUtils.assertSucceedWith(3, singleFlight.execute("a", key -> Future.succeededFuture(3)));
+    }
+
+    @Test
+    void failure() {
+        val singleFlight = SingleFlight.<String, Integer>confined();
+
+        SharedTestUtils.assertFailedWith(NumberFormatException.class, singleFlight.execute("@", key ->
+                Future.succeededFuture(Integer.parseInt(key))
+        ));
+        SharedTestUtils.assertFailedWith("fail", singleFlight.execute("a", () -> Future.failedFuture("fail")));
+        assertEquals(0, singleFlight.size());
+    }
+
+    @SneakyThrows
+    @Test
+    void concurrent() {
+        val singleFlight = SingleFlight.<String, Integer>create();
+        Promise<Integer> promise = Promise.promise();
+        val calls = new AtomicInteger();
+        List<Future<Integer>> futures = Collections.synchronizedList(new ArrayList<>());
+        int threads = 8;
+        val latch = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                futures.add(singleFlight.execute("a", () -> {
+                    calls.incrementAndGet();
+                    return promise.future();
+                }));
+                latch.countDown();
+            }).start();
+        }
+
+        latch.await();
+        assertEquals(1, calls.get());
+        assertEquals(threads, futures.size());
+        for (Future<?> future : futures) {
+            assertSame(futures.get(0), future);
+            assertFalse(future.isComplete());
+        }
+        promise.complete(1);
+        for (Future<?> future : futures) {
+            assertEquals(1, future.result());
+        }
+    }
+}
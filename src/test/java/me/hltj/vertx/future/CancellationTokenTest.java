@@ -0,0 +1,65 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellationTokenTest {
+
+    @Test
+    void cancel() {
+        val token = CancellationToken.create();
+        val causes = new ArrayList<String>();
+        token.onCancel(t -> causes.add("a:" + t.getMessage()));
+        assertFalse(token.isCancelled());
+        assertNull(token.cause());
+
+        val cause = new RuntimeException("fail");
+        assertTrue(token.cancel(cause));
+        assertFalse(token.cancel(new RuntimeException("again")));
+        assertTrue(token.isCancelled());
+        assertSame(cause, token.cause());
+
+        token.onCancel(t -> causes.add("b:" + t.getMessage()));
+        assertEquals(Arrays.asList("a:fail", "b:fail"), causes);
+    }
+
+    @Test
+    void handlerThrows() {
+        val token = CancellationToken.create();
+        val causes = new ArrayList<String>();
+        token.onCancel(t -> {
+            throw new IllegalStateException("handler");
+        }).onCancel(t -> causes.add(t.getMessage()));
+
+        val e = assertThrows(IllegalStateException.class, () -> token.cancel(new RuntimeException("fail")));
+        assertEquals("handler", e.getMessage());
+        assertEquals(Arrays.asList("fail"), causes);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompletionStreamTest {
+
+    @Test
+    void completionOrder() {
+        Promise<Integer> promise0 = Promise.promise();
+        Promise<Integer> promise1 = Promise.promise();
+        Promise<Integer> promise2 = Promise.promise();
+
+        val results = new ArrayList<Integer>();
+        val ended = new AtomicBoolean();
+        CompletionStream.of(Arrays.asList(promise0.future(), promise1.future(), promise2.future()))
+                .endHandler(v -> ended.set(true))
+                .handler(results::add);
+
+        promise2.complete(2);
+        promise0.complete(0);
+        assertEquals(Arrays.asList(2, 0), results);
+        assertFalse(ended.get());
+
+        promise1.complete(1);
+        assertEquals(Arrays.asList(2, 0, 1), results);
+        assertTrue(ended.get());
+    }
+
+    @Test
+    void pauseAndFetch() {
+        val futures = Arrays.asList(Future.succeededFuture(0), Future.succeededFuture(1), Future.succeededFuture(2));
+
+        val results = new ArrayList<Integer>();
+        val ended = new AtomicBoolean();
+        val stream = CompletionStream.of(futures).endHandler(v -> ended.set(true));
+        stream.pause().handler(results::add);
+        assertTrue(results.isEmpty());
+        assertEquals(3, stream.buffered());
+
+        stream.fetch(1);
+        assertEquals(Arrays.asList(0), results);
+        assertEquals(2, stream.buffered());
+
+        stream.fetch(2);
+        assertEquals(Arrays.asList(0, 1, 2), results);
+        assertTrue(ended.get());
+    }
+
+    @Test
+    void window() {
+        val promises = new ArrayList<Promise<Integer>>();
+        Iterable<Future<Integer>> futures = () -> new Iterator<Future<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return promises.size() < 5;
+            }
+
+            @Override
+            public Future<Integer> next() {
+                Promise<Integer> promise = Promise.promise();
+                promises.add(promise);
+                return promise.future();
+            }
+        };
+
+        val results = new ArrayList<Integer>();
+        val stream = CompletionStream.of(futures, 2);
+        assertTrue(promises.isEmpty());
+
+        stream.pause().handler(results::add);
+        assertEquals(2, promises.size());
+
+        promises.get(1).complete(1);
+        promises.get(0).complete(0);
+        assertEquals(2, promises.size());
+        assertEquals(2, stream.buffered());
+
+        stream.fetch(1);
+        assertEquals(Arrays.asList(1), results);
+        assertEquals(3, promises.size());
+
+        stream.resume();
+        assertEquals(Arrays.asList(1, 0), results);
+        assertEquals(4, promises.size());
+
+        assertThrows(IllegalArgumentException.class, () -> CompletionStream.of(futures, 0));
+    }
+
+    @Test
+    void failure() {
+        Promise<Integer> promise = Promise.promise();
+        List<Future<Integer>> futures = Arrays.asList(promise.future(), Future.failedFuture("fail"));
+
+        val results = new ArrayList<Integer>();
+        val throwables = new ArrayList<Throwable>();
+        val ended = new AtomicBoolean();
+        CompletionStream.of(futures)
+                .exceptionHandler(throwables::add)
+                .endHandler(v -> ended.set(true))
+                .handler(results::add);
+
+        assertEquals(1, throwables.size());
+        assertEquals("fail", throwables.get(0).getMessage());
+        assertFalse(ended.get());
+
+        promise.complete(0);
+        assertEquals(Arrays.asList(0), results);
+        assertTrue(ended.get());
+    }
+
+    @SneakyThrows
+    @Test
+    void context() {
+        val vertx = Vertx.vertx();
+        Promise<Integer> promise = Promise.promise();
+        val contexts = new ArrayList<Context>();
+        val latch = new CountDownLatch(1);
+
+        vertx.runOnContext(v -> {
+            contexts.add(Vertx.currentContext());
+            CompletionStream.of(Arrays.asList(promise.future())).endHandler(x -> latch.countDown()).handler(i -> {
+                contexts.add(Vertx.currentContext());
+                assertEquals(1, i);
+            });
+            new Thread(() -> promise.complete(1)).start();
+        });
+
+        latch.await();
+        assertEquals(2, contexts.size());
+        assertSame(contexts.get(0), contexts.get(1));
+        vertx.close();
+    }
+}
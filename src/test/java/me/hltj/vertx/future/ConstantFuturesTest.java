@@ -0,0 +1,77 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConstantFuturesTest {
+
+    @Test
+    void constants() {
+        SharedTestUtils.assertSucceedWith(null, ConstantFutures.empty());
+        SharedTestUtils.assertSucceedWith(true, ConstantFutures.of(true));
+        SharedTestUtils.assertSucceedWith(false, ConstantFutures.of(false));
+        SharedTestUtils.assertSucceedWith(-128, ConstantFutures.of(-128));
+        SharedTestUtils.assertSucceedWith(127, ConstantFutures.of(127));
+        SharedTestUtils.assertSucceedWith(128, ConstantFutures.of(128));
+        SharedTestUtils.assertSucceedWith(Collections.emptyList(), ConstantFutures.emptyList());
+        SharedTestUtils.assertSucceedWith(Collections.emptySet(), ConstantFutures.emptySet());
+        SharedTestUtils.assertSucceedWith(Collections.emptyMap(), ConstantFutures.emptyMap());
+        SharedTestUtils.assertFailedWith(NullPointerException.class, ConstantFutures.nullPointer());
+
+        assertSame(ConstantFutures.of(true), ConstantFutures.of(true));
+        assertSame(ConstantFutures.of(42), ConstantFutures.of(42));
+        assertNotSame(ConstantFutures.of(128), ConstantFutures.of(128));
+        assertSame(ConstantFutures.nullPointer(), ConstantFutures.nullPointer());
+        assertEquals(0, ConstantFutures.nullPointer().cause().getStackTrace().length);
+    }
+
+    @Test
+    void succeeded() {
+        assertSame(ConstantFutures.empty(), ConstantFutures.succeeded(null));
+        assertSame(ConstantFutures.of(true), ConstantFutures.succeeded(true));
+        assertSame(ConstantFutures.of(-1), ConstantFutures.succeeded(-1));
+        assertSame(ConstantFutures.emptyList(), ConstantFutures.succeeded(Collections.emptyList()));
+        assertSame(ConstantFutures.emptySet(), ConstantFutures.succeeded(Collections.emptySet()));
+        assertSame(ConstantFutures.emptyMap(), ConstantFutures.succeeded(Collections.emptyMap()));
+
+        SharedTestUtils.assertSucceedWith(1000, ConstantFutures.succeeded(1000));
+        SharedTestUtils.assertSucceedWith("hello", ConstantFutures.succeeded("hello"));
+        SharedTestUtils.assertSucceedWith(Arrays.asList(1, 2), ConstantFutures.succeeded(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    void shared() {
+        assertSame(ConstantFutures.of(true), FutureUtils.wrap(() -> true));
+        assertSame(ConstantFutures.of(0), FutureUtils.defaultWith(Future.succeededFuture(), 0));
+        assertSame(ConstantFutures.emptyList(), FutureUtils.quorum(0, Collections.<Future<Integer>>emptyList()));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineTest {
+
+    @SneakyThrows
+    @Test
+    void within() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(1);
+        val calls = new ArrayList<String>();
+        val futures = new ArrayList<Future<Integer>>();
+        val remaining = new ArrayList<Duration>();
+
+        vertx.runOnContext(v -> Deadline.within(Duration.ofMillis(50), () -> {
+            Promise<Integer> promise = Promise.promise();
+            vertx.setTimer(100, id -> promise.complete(1));
+
+            futures.add(FutureUtils.flatMapSome(promise.future(), x -> {
+                calls.add("flatMapSome");
+                return Future.succeededFuture(x);
+            }));
+            futures.add(FutureUtils.flatFallbackWith(promise.future().map(x -> (Integer) null), t -> {
+                calls.add("mapper");
+                return Future.succeededFuture(0);
+            }, () -> {
+                calls.add("supplier");
+                return Future.succeededFuture(0);
+            }));
+            futures.add(FutureUtils.all(promise.future(), Future.succeededFuture(2)).joinApplift((x, y) -> {
+                calls.add("joinApplift");
+                return Future.succeededFuture(x + y);
+            }));
+            futures.add(FutureUtils.flatMapSome(Future.succeededFuture(3), x -> Deadline.within(
+                    Duration.ofSeconds(10), () -> {
+                        remaining.add(Deadline.current().remaining());
+                        return Future.succeededFuture(x);
+                    }
+            )));
+            return promise.future();
+        }).onComplete(ar -> latch.countDown()));
+
+        latch.await();
+        assertTrue(calls.isEmpty());
+        for (int i = 0; i < 3; i++) {
+            SharedTestUtils.assertFailedWith(DeadlineExceededException.class, futures.get(i));
+            assertEquals("deadline of 50 ms exceeded", futures.get(i).cause().getMessage());
+        }
+        SharedTestUtils.assertSucceedWith(3, futures.get(3));
+        assertTrue(remaining.get(0).toMillis() <= 50);
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void rootContext() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(1);
+        val futures = new ArrayList<Future<Integer>>();
+        val current = new ArrayList<Deadline>();
+        Promise<Integer> pending = Promise.promise();
+
+        vertx.runOnContext(v -> {
+            futures.add(Deadline.within(Duration.ofMillis(10), pending::future));
+            current.add(Deadline.current());
+            vertx.setTimer(50, id -> {
+                current.add(Deadline.current());
+                futures.add(Deadline.within(Duration.ofSeconds(10), () -> Future.succeededFuture(1)));
+                futures.add(FutureUtils.flatMapSome(Future.succeededFuture(2), Future::succeededFuture));
+                latch.countDown();
+            });
+        });
+
+        latch.await();
+        assertFalse(futures.get(0).isComplete());
+        assertEquals(2, current.size());
+        assertNull(current.get(0));
+        assertNull(current.get(1));
+        SharedTestUtils.assertSucceedWith(1, futures.get(1));
+        SharedTestUtils.assertSucceedWith(2, futures.get(2));
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void exceeded() {
+        val vertx = Vertx.vertx();
+        val latch = new CountDownLatch(1);
+        val calls = new ArrayList<String>();
+        val futures = new ArrayList<Future<Integer>>();
+        val restored = new ArrayList<Boolean>();
+
+        vertx.runOnContext(v -> {
+            futures.add(Deadline.within(Duration.ZERO, () -> {
+                calls.add("zero");
+                return Future.succeededFuture(0);
+            }));
+            futures.add(Deadline.within(Duration.ofSeconds(10), () -> {
+                throw new IllegalStateException();
+            }));
+            futures.add(Deadline.within(Duration.ofSeconds(10), () -> Deadline.check(() -> Future.succeededFuture(1))));
+            restored.add(Deadline.current() == null);
+            futures.get(2).onComplete(ar -> latch.countDown());
+        });
+
+        latch.await();
+        assertTrue(calls.isEmpty());
+        SharedTestUtils.assertFailedWith(DeadlineExceededException.class, futures.get(0));
+        SharedTestUtils.assertFailedWith(IllegalStateException.class, futures.get(1));
+        SharedTestUtils.assertSucceedWith(1, futures.get(2));
+        assertTrue(restored.get(0));
+
+        assertNull(Deadline.current());
+        SharedTestUtils.assertSucceedWith(1, Deadline.check(() -> Future.succeededFuture(1)));
+        SharedTestUtils.assertFailedWith(
+                IllegalStateException.class, Deadline.within(Duration.ZERO, () -> fail("called outside a context"))
+        );
+        vertx.close();
+    }
+}
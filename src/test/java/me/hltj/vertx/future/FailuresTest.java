@@ -0,0 +1,117 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.SharedTestUtils;
+import me.hltj.vertx.concurrent.AsyncSemaphore;
+import me.hltj.vertx.concurrent.RejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FailuresTest {
+
+    @AfterEach
+    void resetMode() {
+        Failures.setMode(Failures.Mode.DEFAULT);
+    }
+
+    @Test
+    void defaults() {
+        assertEquals(Failures.Mode.DEFAULT, Failures.getMode());
+        assertNotSame(Failures.emptyValue(), Failures.emptyValue());
+        assertNull(Failures.emptyValue().getMessage());
+        assertTrue(Failures.emptyValue().getStackTrace().length > 0);
+        assertEquals("timed out after 10 ms", Failures.timeout(10).getMessage());
+        assertTrue(Failures.timeout(10).getStackTrace().length > 0);
+
+        val nonEmpty = FutureUtils.nonEmpty(Future.succeededFuture());
+        SharedTestUtils.assertFailedWith(NullPointerException.class, nonEmpty);
+        assertNull(nonEmpty.cause().getMessage());
+        assertNotSame(ConstantFutures.nullPointer(), nonEmpty);
+
+        val semaphore = AsyncSemaphore.create(1, 0);
+        semaphore.execute(() -> Promise.<Void>promise().future());
+        val rejected = semaphore.execute(Future::succeededFuture);
+        assertSame(rejected.cause(), semaphore.execute(Future::succeededFuture).cause());
+        assertEquals(0, rejected.cause().getStackTrace().length);
+    }
+
+    @Test
+    void shared() {
+        Failures.setMode(Failures.Mode.SHARED);
+        assertSame(Failures.emptyValue(), Failures.emptyValue());
+        assertSame(Failures.timeout(10), Failures.timeout(20));
+        assertEquals("timed out", Failures.timeout(10).getMessage());
+        assertEquals(0, Failures.timeout(10).getStackTrace().length);
+
+        assertSame(ConstantFutures.nullPointer(), FutureUtils.nonEmpty(Future.succeededFuture()));
+        val semaphore = AsyncSemaphore.create(1, 0);
+        semaphore.execute(() -> Promise.<Void>promise().future());
+        val rejected = semaphore.execute(Future::succeededFuture);
+        assertSame(rejected.cause(), semaphore.execute(Future::succeededFuture).cause());
+    }
+
+    @Test
+    void stackless() {
+        Failures.setMode(Failures.Mode.STACKLESS);
+        assertNotSame(Failures.emptyValue(), Failures.emptyValue());
+        assertNull(Failures.emptyValue().getMessage());
+        assertEquals(0, Failures.emptyValue().getStackTrace().length);
+        assertEquals("timed out after 10 ms", Failures.timeout(10).getMessage());
+        assertEquals(0, Failures.timeout(10).getStackTrace().length);
+
+        val nonEmpty = FutureUtils.nonEmpty(Future.succeededFuture());
+        SharedTestUtils.assertFailedWith(NullPointerException.class, nonEmpty);
+        assertNotSame(ConstantFutures.nullPointer(), nonEmpty);
+
+        val semaphore = AsyncSemaphore.create(1, 0);
+        semaphore.execute(() -> Promise.<Void>promise().future());
+        val rejected = semaphore.execute(Future::succeededFuture);
+        SharedTestUtils.assertFailedWith(RejectedException.class, rejected);
+        assertNotSame(rejected.cause(), semaphore.execute(Future::succeededFuture).cause());
+        assertEquals(0, rejected.cause().getStackTrace().length);
+    }
+
+    @Test
+    void fullTrace() {
+        Failures.setMode(Failures.Mode.FULL_TRACE);
+        assertTrue(Failures.emptyValue().getStackTrace().length > 0);
+        TimeoutException timeout = Failures.timeout(10);
+        assertEquals("timed out after 10 ms", timeout.getMessage());
+        assertTrue(timeout.getStackTrace().length > 0);
+
+        val semaphore = AsyncSemaphore.create(1, 0);
+        semaphore.execute(() -> Promise.<Void>promise().future());
+        assertTrue(semaphore.execute(Future::succeededFuture).cause().getStackTrace().length > 0);
+
+        assertThrows(NullPointerException.class, () -> Failures.setMode(null));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.SharedTestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FutureArrayListTest {
+
+    @Test
+    void all() {
+        Promise<Integer> promise = Promise.promise();
+        val f = Future.succeededFuture(1);
+        val composite = FutureArrayList.all(promise.future(), f, f, f, f, f, f);
+        assertEquals(7, composite.size());
+        assertFalse(composite.isComplete());
+
+        promise.complete(0);
+        SharedTestUtils.assertSucceedWith(composite, composite);
+        assertEquals(0, (int) composite.resultAt(0));
+        assertEquals(1, (int) composite.resultAt(6));
+    }
+
+    @Test
+    void anyAndJoin() {
+        val f = Future.succeededFuture(1);
+        val failed = Future.<Integer>failedFuture("fail");
+        SharedTestUtils.assertSucceedWith(1, FutureArrayList.any(failed, f, f, f, f, f, f).map(c -> c.resultAt(1)));
+        SharedTestUtils.assertFailedWith("fail", FutureArrayList.join(f, f, f, f, f, f, failed));
+    }
+
+    @Test
+    void toArray() {
+        Future<?>[] futures = {Future.succeededFuture(0), Future.succeededFuture(1)};
+        val list = new FutureArrayList<>(futures);
+        assertEquals(2, list.size());
+        assertSame(futures[1], list.get(1));
+
+        assertSame(futures, list.toArray(new Future<?>[0]));
+        assertArrayEquals(futures, list.toArray(new Object[0]));
+        assertNotSame(futures, list.toArray(new Object[0]));
+        Future<?>[] presized = new Future<?>[2];
+        assertSame(presized, list.toArray(presized));
+        assertArrayEquals(futures, presized);
+    }
+}
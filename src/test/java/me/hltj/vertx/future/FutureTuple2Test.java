@@ -26,6 +26,7 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import lombok.val;
 import me.hltj.vertx.SharedTestUtils;
+import me.hltj.vertx.concurrent.CircuitBreaker;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -203,4 +204,56 @@ class FutureTuple2Test {
         assertEquals(1, throwablesB.size());
         assertEquals("fail0", throwablesB.get(0).getMessage());
     }
+
+    @Test
+    void completed_reused() {
+        val tuple = FutureTuple2.of(Future.succeededFuture(1), Future.succeededFuture("hello"));
+        assertSame(tuple, tuple.defaults(0, "default"));
+        assertSame(tuple, tuple.fallback(0, "default"));
+        assertSame(tuple, tuple.otherwise(0, "default"));
+        assertSame(tuple, tuple.otherwiseEmpty());
+
+        val emptyTuple = FutureTuple2.of(Future.<Integer>succeededFuture(), Future.<String>failedFuture("error"));
+        assertSame(emptyTuple, emptyTuple.mapEmpty());
+
+        val otherwiseTuple = emptyTuple.otherwise(0, "default");
+        assertNotSame(emptyTuple, otherwiseTuple);
+        assertSame(emptyTuple.get_0(), otherwiseTuple.get_0());
+        SharedTestUtils.assertSucceedWith("default", otherwiseTuple.get_1());
+    }
+
+    @Test
+    void allSettled() {
+        Promise<Integer> promise0 = Promise.promise();
+        val cause = new RuntimeException("fail1");
+
+        val future = FutureTuple2.of(promise0.future(), Future.<String>failedFuture(cause)).allSettled();
+        assertFalse(future.isComplete());
+
+        promise0.complete(0);
+        SharedTestUtils.assertSucceedWith(OutcomeTuple2.of(Outcome.succeeded(0), Outcome.failed(cause)), future);
+        assertEquals("OutcomeTuple2(Outcome{result=0}, Outcome{cause=fail1})", future.result().toString());
+    }
+
+    @Test
+    void fallback_circuitBreaker() {
+        val breaker0 = CircuitBreaker.builder().minimumCalls(1).build();
+        val breaker1 = CircuitBreaker.builder().build();
+        Promise<String> promise1 = Promise.promise();
+
+        val tupleA = FutureTuple2.of(Future.<Integer>failedFuture("fail0"), promise1.future()).fallback(
+                breaker0, breaker1, 0, "default"
+        );
+        SharedTestUtils.assertSucceedWith(0, tupleA.get_0());
+        assertFalse(tupleA.get_1().isComplete());
+        promise1.complete();
+        SharedTestUtils.assertSucceedWith("default", tupleA.get_1());
+        assertEquals(CircuitBreaker.State.OPEN, breaker0.state());
+
+        val tupleB = FutureTuple2.of(Promise.<Integer>promise().future(), Future.succeededFuture("a")).fallback(
+                breaker0, breaker1, 0, "default"
+        );
+        SharedTestUtils.assertSucceedWith(0, tupleB.get_0());
+        SharedTestUtils.assertSucceedWith("a", tupleB.get_1());
+    }
 }
\ No newline at end of file
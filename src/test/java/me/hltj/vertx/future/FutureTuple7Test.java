@@ -22,6 +22,7 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import lombok.val;
@@ -432,4 +433,15 @@ class FutureTuple7Test {
         assertEquals(1, throwablesB.size());
         assertEquals("fail0", throwablesB.get(0).getMessage());
     }
+
+    @Test
+    void allChained() {
+        Promise<Integer> promise = Promise.promise();
+        Future<Integer> f = Future.succeededFuture(1);
+        val composite = FutureTuple7.of(promise.future(), f, f, f, f, f, f).all().raw();
+        val size = Future.succeededFuture().flatMap(v -> composite).map(CompositeFuture::size);
+
+        promise.complete(0);
+        SharedTestUtils.assertSucceedWith(7, size);
+    }
 }
\ No newline at end of file
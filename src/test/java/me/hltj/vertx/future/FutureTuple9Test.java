@@ -538,4 +538,27 @@ class FutureTuple9Test {
         assertEquals(1, throwablesB.size());
         assertEquals("fail0", throwablesB.get(0).getMessage());
     }
+
+    @Test
+    void allSettled() {
+        val cause = new RuntimeException("fail");
+        val future = FutureTuple9.of(
+                Future.succeededFuture(0), Future.<String>failedFuture(cause), Future.succeededFuture(true),
+                Future.succeededFuture(1.0), Future.succeededFuture('a'), Future.succeededFuture((byte) 1),
+                Future.succeededFuture(1f), Future.succeededFuture((short) 1), Future.<Integer>succeededFuture()
+        ).allSettled();
+
+        assertTrue(future.succeeded());
+        val outcomes = future.result();
+        assertEquals(0, outcomes.get_0().result());
+        assertSame(cause, outcomes.get_1().cause());
+        assertEquals(true, outcomes.get_2().result());
+        assertEquals(1.0, outcomes.get_3().result());
+        assertEquals('a', outcomes.get_4().result());
+        assertEquals((byte) 1, outcomes.get_5().result());
+        assertEquals(1f, outcomes.get_6().result());
+        assertEquals((short) 1, outcomes.get_7().result());
+        assertTrue(outcomes.get_8().succeeded());
+        assertNull(outcomes.get_8().result());
+    }
 }
\ No newline at end of file
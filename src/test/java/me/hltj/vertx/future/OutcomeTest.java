@@ -0,0 +1,62 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with '@')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutcomeTest {
+
+    @Test
+    void succeeded() {
+        val outcome = Outcome.succeeded(1);
+        assertTrue(outcome.succeeded());
+        assertFalse(outcome.failed());
+        assertEquals(1, outcome.result());
+        assertNull(outcome.cause());
+        assertEquals("Outcome{result=1}", outcome.toString());
+
+        assertSame(Outcome.succeeded(null), Outcome.of(Future.succeededFuture()));
+        assertEquals(outcome, Outcome.of(Future.succeededFuture(1)));
+    }
+
+    @Test
+    void failed() {
+        val cause = new RuntimeException("fail");
+        val outcome = Outcome.<Integer>failed(cause);
+        assertFalse(outcome.succeeded());
+        assertTrue(outcome.failed());
+        assertNull(outcome.result());
+        assertSame(cause, outcome.cause());
+        assertEquals("Outcome{cause=fail}", outcome.toString());
+        assertEquals(Outcome.failed(cause), Outcome.of(Future.failedFuture(cause)));
+
+        assertEquals(0, outcome.otherwise(0).result());
+        assertThrows(NullPointerException.class, () -> Outcome.failed(null));
+        assertThrows(IllegalStateException.class, () -> Outcome.of(Promise.promise().future()));
+    }
+}